@@ -0,0 +1,197 @@
+package com.jakewharton.maven.plugin.github_deploy;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Limits the number of in-flight HTTP requests using an additive-increase,
+ * multiplicative-decrease (AIMD) scheme driven by observed latency and
+ * response status.
+ * <p>
+ * The limit starts at one and grows by one per successful request until the
+ * first back off ("slow start"), after which it grows by <code>1/limit</code>
+ * per success. A throttling or server error response halves the limit, and a
+ * latency gradient (short-term latency exceeding the long-term baseline by
+ * {@link #LATENCY_TOLERANCE}) shrinks it slightly. Latency samples are
+ * normalized by request size so that large uploads are comparable with small
+ * requests. Only one decrease is applied per round of in-flight requests.
+ * <p>
+ * Requests are admitted in the order in which they joined the queue with
+ * {@link #enqueue()}, so a request is never overtaken by one which queued
+ * after it.
+ * 
+ * @author Jake Wharton <jakewharton@gmail.com>
+ */
+class AdaptiveLimiter {
+	/** Status used to report a request which failed without a response. */
+	static final int STATUS_NONE = -1;
+	/** HTTP status sent when a client is being rate limited. */
+	static final int STATUS_TOO_MANY_REQUESTS = 429;
+	/** Factor applied to the limit on a throttle or error response. */
+	private static final double BACKOFF_RATIO = 0.5;
+	/** Factor applied to the limit when latency degrades. */
+	private static final double GRADIENT_RATIO = 0.9;
+	/** Allowed ratio of short-term to long-term latency before backing off. */
+	private static final double LATENCY_TOLERANCE = 2.0;
+	/** Minimum latency increase, in nanoseconds, treated as degradation. */
+	private static final double LATENCY_FLOOR = 5000000;
+	/** Weight of a new sample in the short-term latency average. */
+	private static final double SHORT_WEIGHT = 0.5;
+	/** Weight of a new sample in the long-term latency average. */
+	private static final double LONG_WEIGHT = 0.05;
+	/** Number of request bytes which make up one latency normalization unit. */
+	private static final long BYTES_PER_UNIT = 64 * 1024;
+	
+	private final int maxLimit;
+	private final Set<Long> abandoned = new HashSet<Long>();
+	private long nextTicket;
+	private long nowServing;
+	private double limit = 1;
+	private boolean slowStart = true;
+	private int inFlight;
+	private int peakInFlight;
+	private int throttled;
+	private int decreases;
+	private long lastDecrease;
+	private double shortLatency;
+	private double longLatency;
+	
+	/**
+	 * @param maxLimit Maximum number of concurrent requests.
+	 */
+	AdaptiveLimiter(int maxLimit) {
+		this.maxLimit = Math.max(1, maxLimit);
+	}
+	
+	/**
+	 * Join the queue and block until a request may be started.
+	 * 
+	 * @return Start time of the request, to be passed to
+	 * {@link #release(long, long, int)}.
+	 * @throws InterruptedException
+	 */
+	synchronized long acquire() throws InterruptedException {
+		return this.admit(this.enqueue());
+	}
+	
+	/**
+	 * Join the queue without waiting.
+	 * 
+	 * @return Ticket to be passed to {@link #admit(long)}.
+	 */
+	synchronized long enqueue() {
+		return this.nextTicket++;
+	}
+	
+	/**
+	 * Block until every earlier ticket has been admitted and a request may be
+	 * started. The ticket is given up if the thread is interrupted.
+	 * 
+	 * @param ticket Value returned from {@link #enqueue()}.
+	 * @return Start time of the request, to be passed to
+	 * {@link #release(long, long, int)}.
+	 * @throws InterruptedException
+	 */
+	synchronized long admit(long ticket) throws InterruptedException {
+		try {
+			while ((ticket != this.nowServing) || (this.inFlight >= this.getLimit())) {
+				this.wait();
+			}
+		} catch (InterruptedException e) {
+			if (ticket == this.nowServing) {
+				this.advance();
+			} else {
+				this.abandoned.add(ticket);
+			}
+			throw e;
+		}
+		this.advance();
+		this.inFlight += 1;
+		this.peakInFlight = Math.max(this.peakInFlight, this.inFlight);
+		return System.nanoTime();
+	}
+	
+	/**
+	 * Move on to the next ticket which has not been given up.
+	 */
+	private void advance() {
+		this.nowServing += 1;
+		while (this.abandoned.remove(this.nowServing)) {
+			this.nowServing += 1;
+		}
+		this.notifyAll();
+	}
+	
+	/**
+	 * Record the outcome of a request and release its slot.
+	 * 
+	 * @param start Value returned from {@link #acquire()}.
+	 * @param bytes Number of bytes sent with the request.
+	 * @param status HTTP status code or {@link #STATUS_NONE}.
+	 */
+	synchronized void release(long start, long bytes, int status) {
+		this.inFlight -= 1;
+		
+		if (isThrottle(status)) {
+			this.throttled += 1;
+			this.decrease(start, BACKOFF_RATIO);
+		} else {
+			double sample = (double)(System.nanoTime() - start) / (1 + bytes / BYTES_PER_UNIT);
+			if (this.longLatency == 0) {
+				this.shortLatency = sample;
+				this.longLatency = sample;
+			} else {
+				this.shortLatency += SHORT_WEIGHT * (sample - this.shortLatency);
+				this.longLatency += LONG_WEIGHT * (sample - this.longLatency);
+			}
+			
+			if ((this.shortLatency > this.longLatency * LATENCY_TOLERANCE) && (this.shortLatency - this.longLatency > LATENCY_FLOOR)) {
+				this.decrease(start, GRADIENT_RATIO);
+			} else if (this.slowStart) {
+				this.limit = Math.min(this.maxLimit, this.limit + 1);
+			} else {
+				this.limit = Math.min(this.maxLimit, this.limit + 1 / this.limit);
+			}
+		}
+		
+		this.notifyAll();
+	}
+	
+	private void decrease(long start, double ratio) {
+		//Ignore requests which were already in flight when we last backed off
+		if ((this.decreases > 0) && (start - this.lastDecrease < 0)) {
+			return;
+		}
+		this.slowStart = false;
+		this.decreases += 1;
+		this.lastDecrease = System.nanoTime();
+		this.limit = Math.max(1, this.limit * ratio);
+	}
+	
+	/**
+	 * @param status HTTP status code or {@link #STATUS_NONE}.
+	 * @return Whether the status indicates throttling or a server failure.
+	 */
+	static boolean isThrottle(int status) {
+		return (status == STATUS_NONE) || (status == STATUS_TOO_MANY_REQUESTS) || (status >= 500);
+	}
+	
+	/**
+	 * @return Current number of requests allowed in flight.
+	 */
+	synchronized int getLimit() {
+		return (int)this.limit;
+	}
+	synchronized int getMaxLimit() {
+		return this.maxLimit;
+	}
+	synchronized int getPeakInFlight() {
+		return this.peakInFlight;
+	}
+	synchronized int getThrottled() {
+		return this.throttled;
+	}
+	synchronized int getDecreases() {
+		return this.decreases;
+	}
+}
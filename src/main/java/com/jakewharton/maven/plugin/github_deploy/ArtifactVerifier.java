@@ -0,0 +1,112 @@
+package com.jakewharton.maven.plugin.github_deploy;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipFile;
+
+/**
+ * Checks that an artifact is intact before it is uploaded. The file must
+ * still have the length it had when it was selected, archives must have a
+ * readable central directory, and a detached <code>.asc</code> signature can
+ * optionally be required.
+ * 
+ * @author Jake Wharton <jakewharton@gmail.com>
+ */
+class ArtifactVerifier {
+	/** File extension of detached signatures. */
+	static final String SIGNATURE_EXTENSION = ".asc";
+	/** File extensions of artifacts which are zip archives. */
+	private static final String[] ARCHIVE_EXTENSIONS = new String[] { ".jar", ".zip", ".war", ".ear" };
+	
+	private final Set<String> fileNames = new HashSet<String>();
+	private final boolean requireSignatures;
+	
+	/**
+	 * @param files Every file being deployed, which are searched for
+	 * signatures in addition to the directory of each artifact.
+	 * @param requireSignatures Whether every artifact must have a signature.
+	 */
+	ArtifactVerifier(Collection<File> files, boolean requireSignatures) {
+		for (File file : files) {
+			this.fileNames.add(file.getName());
+		}
+		this.requireSignatures = requireSignatures;
+	}
+	
+	/**
+	 * Verify an artifact.
+	 * 
+	 * @param file Artifact file.
+	 * @param expectedLength Length of the file when it was selected.
+	 * @throws IOException If the artifact is not intact. The message describes
+	 * the problem.
+	 */
+	void verify(File file, long expectedLength) throws IOException {
+		long length = file.length();
+		if (length != expectedLength) {
+			throw new IOException(String.format(GitHubDeployMojo.ERROR_VERIFY_SIZE, expectedLength, length));
+		}
+		if (isArchive(file)) {
+			checkArchive(file);
+		}
+		if (this.requireSignatures && !file.getName().endsWith(SIGNATURE_EXTENSION)) {
+			String signature = file.getName() + SIGNATURE_EXTENSION;
+			if (!this.fileNames.contains(signature) && !new File(file.getParentFile(), signature).isFile()) {
+				throw new IOException(String.format(GitHubDeployMojo.ERROR_VERIFY_SIGNATURE, signature));
+			}
+		}
+	}
+	
+	/**
+	 * @return Whether a file is a zip archive, judged by its extension.
+	 */
+	static boolean isArchive(File file) {
+		String name = file.getName().toLowerCase(Locale.ENGLISH);
+		for (String extension : ARCHIVE_EXTENSIONS) {
+			if (name.endsWith(extension)) {
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * Read the central directory of a zip archive. A truncated or corrupt
+	 * archive has no readable end of central directory record or entries
+	 * which point outside of the file.
+	 * 
+	 * @param file Zip archive.
+	 * @return Number of entries in the archive.
+	 * @throws IOException If the central directory is invalid.
+	 */
+	static int checkArchive(File file) throws IOException {
+		long length = file.length();
+		ZipFile zip;
+		try {
+			zip = new ZipFile(file);
+		} catch (ZipException e) {
+			throw new IOException(String.format(GitHubDeployMojo.ERROR_VERIFY_ARCHIVE, e.getLocalizedMessage()));
+		}
+		try {
+			int entries = 0;
+			Enumeration<? extends ZipEntry> enumeration = zip.entries();
+			while (enumeration.hasMoreElements()) {
+				ZipEntry entry = enumeration.nextElement();
+				if (entry.getCompressedSize() > length) {
+					throw new IOException(String.format(GitHubDeployMojo.ERROR_VERIFY_ARCHIVE, entry.getName()));
+				}
+				entries += 1;
+			}
+			return entries;
+		} finally {
+			zip.close();
+		}
+	}
+}
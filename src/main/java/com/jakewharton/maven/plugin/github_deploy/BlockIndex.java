@@ -0,0 +1,378 @@
+package com.jakewharton.maven.plugin.github_deploy;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * rsync-style index of the fixed size blocks of a file. Each block is
+ * described by a weak rolling checksum and a strong MD5 digest, which allows
+ * a newer version of the file to be compared against the index in a single
+ * streaming pass without access to the original file.
+ * 
+ * @author Jake Wharton <jakewharton@gmail.com>
+ */
+class BlockIndex {
+	/** Index file header. */
+	private static final int MAGIC = 0x47484249; //"GHBI"
+	/** Index file format version. */
+	private static final int VERSION = 1;
+	/** Strong digest algorithm. */
+	private static final String DIGEST = "MD5";
+	/** Length of a strong digest in bytes. */
+	private static final int DIGEST_LENGTH = 16;
+	/** Buffer size used when streaming files. */
+	private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+	
+	private final int blockSize;
+	private final long length;
+	private final int[] weak;
+	private final byte[] strong;
+	
+	private BlockIndex(int blockSize, long length, int[] weak, byte[] strong) {
+		this.blockSize = blockSize;
+		this.length = length;
+		this.weak = weak;
+		this.strong = strong;
+	}
+	
+	int getBlockSize() {
+		return this.blockSize;
+	}
+	long getLength() {
+		return this.length;
+	}
+	int getBlockCount() {
+		return this.weak.length;
+	}
+	
+	/**
+	 * @return Length of the block at the given index.
+	 */
+	private int blockLength(int block) {
+		return (int)Math.min(this.blockSize, this.length - (long)block * this.blockSize);
+	}
+	
+	/**
+	 * Build the index of a file.
+	 * 
+	 * @param file File to index.
+	 * @param blockSize Block size in bytes.
+	 * @return File index.
+	 * @throws IOException
+	 */
+	static BlockIndex build(File file, int blockSize) throws IOException {
+		Builder builder = new Builder(blockSize);
+		InputStream in = new FileInputStream(file);
+		try {
+			byte[] buffer = new byte[STREAM_BUFFER_SIZE];
+			int read;
+			while ((read = in.read(buffer)) != -1) {
+				builder.update(buffer, 0, read);
+			}
+		} finally {
+			in.close();
+		}
+		return builder.build();
+	}
+	
+	/**
+	 * Compare a file against this index in a single streaming pass. Memory use
+	 * is bounded by the block size and the size of this index. The index of
+	 * the new file is computed during the same pass.
+	 * 
+	 * @param file New version of the file.
+	 * @param blockSize Block size in bytes of the new index.
+	 * @return Comparison result, or <code>null</code> if this index was built
+	 * with a different block size and cannot be compared.
+	 * @throws IOException
+	 */
+	Delta diff(File file, int blockSize) throws IOException {
+		if (blockSize != this.blockSize) {
+			return null;
+		}
+		
+		//Map each weak checksum to the first block which has it
+		Map<Integer, Integer> blocks = new HashMap<Integer, Integer>();
+		for (int i = this.weak.length - 1; i >= 0; i--) {
+			if (this.blockLength(i) == this.blockSize) {
+				blocks.put(this.weak[i], i);
+			}
+		}
+		
+		Builder builder = new Builder(blockSize);
+		MessageDigest digest = newDigest();
+		byte[] window = new byte[this.blockSize];
+		long matched = 0;
+		int matchedBlocks = 0;
+		
+		InputStream in = new FileInputStream(file);
+		try {
+			//Window is a ring buffer starting at 'start' holding 'count' bytes
+			int start = 0;
+			int count = 0;
+			Rolling rolling = new Rolling(this.blockSize);
+			byte[] buffer = new byte[STREAM_BUFFER_SIZE];
+			int read;
+			while ((read = in.read(buffer)) != -1) {
+				builder.update(buffer, 0, read);
+				for (int i = 0; i < read; i++) {
+					byte next = buffer[i];
+					if (count < this.blockSize) {
+						//Fill the window up to a full block
+						window[(start + count) % this.blockSize] = next;
+						rolling.add(next);
+						count += 1;
+					} else {
+						//No match, slide the window by one byte
+						rolling.roll(window[start], next);
+						window[start] = next;
+						start = (start + 1) % this.blockSize;
+					}
+					
+					if (count == this.blockSize) {
+						Integer block = blocks.get(rolling.value());
+						if ((block != null) && this.strongMatches(block, digest, window, start, count)) {
+							matched += this.blockSize;
+							matchedBlocks += 1;
+							start = 0;
+							count = 0;
+							rolling = new Rolling(this.blockSize);
+						}
+					}
+				}
+			}
+			
+			//Check if the remaining tail is identical to the indexed tail
+			int tail = this.weak.length - 1;
+			if ((count > 0) && (tail >= 0) && (this.blockLength(tail) == count)
+					&& (this.weak[tail] == rolling.value()) && this.strongMatches(tail, digest, window, start, count)) {
+				matched += count;
+				matchedBlocks += 1;
+			}
+		} finally {
+			in.close();
+		}
+		
+		BlockIndex index = builder.build();
+		return new Delta(index, matched, matchedBlocks);
+	}
+	
+	private boolean strongMatches(int block, MessageDigest digest, byte[] window, int start, int count) {
+		int first = Math.min(count, window.length - start);
+		digest.reset();
+		digest.update(window, start, first);
+		digest.update(window, 0, count - first);
+		byte[] actual = digest.digest();
+		for (int i = 0; i < DIGEST_LENGTH; i++) {
+			if (actual[i] != this.strong[block * DIGEST_LENGTH + i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	/**
+	 * Write this index to a file, replacing it if it exists.
+	 * 
+	 * @param file Index file.
+	 * @throws IOException
+	 */
+	void write(File file) throws IOException {
+		file.getParentFile().mkdirs();
+		File temp = new File(file.getPath() + ".tmp");
+		DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)));
+		try {
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			out.writeInt(this.blockSize);
+			out.writeLong(this.length);
+			out.writeInt(this.weak.length);
+			for (int i = 0; i < this.weak.length; i++) {
+				out.writeInt(this.weak[i]);
+				out.write(this.strong, i * DIGEST_LENGTH, DIGEST_LENGTH);
+			}
+		} finally {
+			out.close();
+		}
+		if (!temp.renameTo(file)) {
+			file.delete();
+			if (!temp.renameTo(file)) {
+				throw new IOException("Unable to write " + file);
+			}
+		}
+	}
+	
+	/**
+	 * Read an index from a file.
+	 * 
+	 * @param file Index file.
+	 * @return Index, or <code>null</code> if the file is not a valid index.
+	 * @throws IOException
+	 */
+	static BlockIndex read(File file) throws IOException {
+		DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+		try {
+			if ((in.readInt() != MAGIC) || (in.readInt() != VERSION)) {
+				return null;
+			}
+			int blockSize = in.readInt();
+			long length = in.readLong();
+			int count = in.readInt();
+			if ((blockSize <= 0) || (count < 0) || ((long)count * blockSize < length)) {
+				return null;
+			}
+			int[] weak = new int[count];
+			byte[] strong = new byte[count * DIGEST_LENGTH];
+			for (int i = 0; i < count; i++) {
+				weak[i] = in.readInt();
+				in.readFully(strong, i * DIGEST_LENGTH, DIGEST_LENGTH);
+			}
+			return new BlockIndex(blockSize, length, weak, strong);
+		} finally {
+			in.close();
+		}
+	}
+	
+	private static MessageDigest newDigest() {
+		try {
+			return MessageDigest.getInstance(DIGEST);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+	
+	/**
+	 * Result of comparing a file against a previous index.
+	 */
+	static class Delta {
+		private final BlockIndex index;
+		private final long matched;
+		private final int matchedBlocks;
+		
+		Delta(BlockIndex index, long matched, int matchedBlocks) {
+			this.index = index;
+			this.matched = matched;
+			this.matchedBlocks = matchedBlocks;
+		}
+		
+		/**
+		 * @return Index of the new version of the file.
+		 */
+		BlockIndex getIndex() {
+			return this.index;
+		}
+		/**
+		 * @return Number of bytes which are present in the previous version.
+		 */
+		long getMatched() {
+			return this.matched;
+		}
+		int getMatchedBlocks() {
+			return this.matchedBlocks;
+		}
+		/**
+		 * @return Number of bytes which must be sent for the new version.
+		 */
+		long getChanged() {
+			return this.index.getLength() - this.matched;
+		}
+	}
+	
+	/**
+	 * rsync weak rolling checksum over a fixed size window.
+	 */
+	private static class Rolling {
+		private final int window;
+		private int a;
+		private int b;
+		
+		Rolling(int window) {
+			this.window = window;
+		}
+		
+		void add(byte in) {
+			this.a += in & 0xff;
+			this.b += this.a;
+		}
+		
+		void roll(byte out, byte in) {
+			int outValue = out & 0xff;
+			this.a += (in & 0xff) - outValue;
+			this.b += this.a - this.window * outValue;
+		}
+		
+		int value() {
+			return (this.a & 0xffff) | (this.b << 16);
+		}
+	}
+	
+	/**
+	 * Incrementally builds an index from a stream of bytes.
+	 */
+	static class Builder {
+		private final int blockSize;
+		private final MessageDigest digest = newDigest();
+		private Rolling rolling;
+		private int[] weak = new int[16];
+		private byte[] strong = new byte[16 * DIGEST_LENGTH];
+		private int blocks;
+		private int position;
+		private long length;
+		
+		Builder(int blockSize) {
+			this.blockSize = blockSize;
+			this.rolling = new Rolling(blockSize);
+		}
+		
+		void update(byte[] buffer, int offset, int length) {
+			int end = offset + length;
+			while (offset < end) {
+				//Digest in bulk up to the end of the current block
+				int chunk = Math.min(end - offset, this.blockSize - this.position);
+				this.digest.update(buffer, offset, chunk);
+				for (int i = offset; i < offset + chunk; i++) {
+					this.rolling.add(buffer[i]);
+				}
+				offset += chunk;
+				this.length += chunk;
+				this.position += chunk;
+				if (this.position == this.blockSize) {
+					this.finishBlock();
+				}
+			}
+		}
+		
+		private void finishBlock() {
+			if (this.blocks == this.weak.length) {
+				this.weak = Arrays.copyOf(this.weak, this.blocks * 2);
+				this.strong = Arrays.copyOf(this.strong, this.blocks * 2 * DIGEST_LENGTH);
+			}
+			this.weak[this.blocks] = this.rolling.value();
+			System.arraycopy(this.digest.digest(), 0, this.strong, this.blocks * DIGEST_LENGTH, DIGEST_LENGTH);
+			this.blocks += 1;
+			this.position = 0;
+			this.rolling = new Rolling(this.blockSize);
+		}
+		
+		BlockIndex build() {
+			if (this.position > 0) {
+				this.finishBlock();
+			}
+			return new BlockIndex(this.blockSize, this.length,
+					Arrays.copyOf(this.weak, this.blocks),
+					Arrays.copyOf(this.strong, this.blocks * DIGEST_LENGTH));
+		}
+	}
+}
@@ -0,0 +1,68 @@
+package com.jakewharton.maven.plugin.github_deploy;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Fixed set of direct byte buffers shared by all uploads. The total memory
+ * used for streaming artifact data is bounded by the pool capacity, and
+ * callers block when every buffer is in use.
+ * 
+ * @author Jake Wharton <jakewharton@gmail.com>
+ */
+class BufferPool {
+	private final BlockingQueue<ByteBuffer> buffers;
+	private final int bufferSize;
+	private final int bufferCount;
+	
+	/**
+	 * @param bufferCount Number of buffers in the pool.
+	 * @param bufferSize Size of each buffer in bytes.
+	 */
+	BufferPool(int bufferCount, int bufferSize) {
+		this.bufferCount = Math.max(1, bufferCount);
+		this.bufferSize = Math.max(1, bufferSize);
+		this.buffers = new ArrayBlockingQueue<ByteBuffer>(this.bufferCount);
+		for (int i = 0; i < this.bufferCount; i++) {
+			this.buffers.add(ByteBuffer.allocateDirect(this.bufferSize));
+		}
+	}
+	
+	/**
+	 * Take a cleared buffer from the pool, blocking until one is available.
+	 * 
+	 * @return Buffer which must be returned with {@link #release(ByteBuffer)}.
+	 * @throws InterruptedException
+	 */
+	ByteBuffer acquire() throws InterruptedException {
+		ByteBuffer buffer = this.buffers.take();
+		buffer.clear();
+		return buffer;
+	}
+	
+	/**
+	 * Return a buffer to the pool.
+	 * 
+	 * @param buffer Buffer obtained from {@link #acquire()}.
+	 */
+	void release(ByteBuffer buffer) {
+		this.buffers.offer(buffer);
+	}
+	
+	int getBufferSize() {
+		return this.bufferSize;
+	}
+	int getBufferCount() {
+		return this.bufferCount;
+	}
+	int getAvailable() {
+		return this.buffers.size();
+	}
+	/**
+	 * @return Total number of bytes held by the pool.
+	 */
+	long getCapacity() {
+		return (long)this.bufferCount * this.bufferSize;
+	}
+}
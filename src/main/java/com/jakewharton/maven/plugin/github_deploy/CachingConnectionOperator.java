@@ -0,0 +1,65 @@
+package com.jakewharton.maven.plugin.github_deploy;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.impl.conn.DefaultClientConnectionOperator;
+
+/**
+ * Connection operator which resolves each host name once and shares the
+ * result with every connection opened through it. The cache lives only as
+ * long as the operator's connection manager.
+ * 
+ * @author Jake Wharton <jakewharton@gmail.com>
+ */
+class CachingConnectionOperator extends DefaultClientConnectionOperator {
+	/** Resolved addresses keyed by host name. */
+	private final ConcurrentMap<String, InetAddress[]> addresses = new ConcurrentHashMap<String, InetAddress[]>();
+	private final AtomicInteger hits = new AtomicInteger();
+	private final AtomicInteger misses = new AtomicInteger();
+	
+	CachingConnectionOperator(SchemeRegistry schemes) {
+		super(schemes);
+	}
+	
+	@Override
+	protected InetAddress[] resolveHostname(String host) throws UnknownHostException {
+		return this.resolve(host);
+	}
+	
+	/**
+	 * Resolve a host name, using the cached addresses if it was resolved
+	 * before. Failed lookups are not cached.
+	 * 
+	 * @param host Host name.
+	 * @return Addresses of the host.
+	 * @throws UnknownHostException
+	 */
+	InetAddress[] resolve(String host) throws UnknownHostException {
+		InetAddress[] addresses = this.addresses.get(host);
+		if (addresses != null) {
+			this.hits.incrementAndGet();
+			return addresses;
+		}
+		this.misses.incrementAndGet();
+		addresses = InetAddress.getAllByName(host);
+		InetAddress[] existing = this.addresses.putIfAbsent(host, addresses);
+		return (existing != null) ? existing : addresses;
+	}
+	
+	/**
+	 * @return Number of lookups answered from the cache.
+	 */
+	int getHits() {
+		return this.hits.get();
+	}
+	/**
+	 * @return Number of lookups which required resolving the host.
+	 */
+	int getMisses() {
+		return this.misses.get();
+	}
+}
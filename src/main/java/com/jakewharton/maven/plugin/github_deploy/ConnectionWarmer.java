@@ -0,0 +1,197 @@
+package com.jakewharton.maven.plugin.github_deploy;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.methods.HttpHead;
+import org.apache.http.util.EntityUtils;
+
+/**
+ * Resolves hosts and opens pooled connections to them in the background so
+ * that DNS lookups and TLS handshakes are complete before the first real
+ * request. Each connection is primed with a <code>HEAD</code> request through
+ * the shared client, which leaves it in the pool for reuse.
+ * <p>
+ * The time between starting and either finishing or the first real request,
+ * whichever comes first, is the latency hidden from the deployment.
+ * 
+ * @author Jake Wharton <jakewharton@gmail.com>
+ */
+class ConnectionWarmer {
+	private final HttpClient client;
+	private final CachingConnectionOperator operator;
+	private final Map<String, String> hosts = new LinkedHashMap<String, String>();
+	private final int connectionsPerHost;
+	private final AtomicInteger primed = new AtomicInteger();
+	private final AtomicInteger remaining = new AtomicInteger();
+	private final AtomicLong firstRequest = new AtomicLong();
+	private ExecutorService executor;
+	private long start;
+	private long end;
+	private volatile boolean finished;
+	
+	/**
+	 * @param client Client whose connection pool is primed.
+	 * @param operator Operator whose host name cache is filled, or
+	 * <code>null</code> to leave resolving to the first connection.
+	 * @param urls URLs of the hosts to connect to. URLs on the same host are
+	 * only connected to once.
+	 * @param connectionsPerHost Number of connections to open to each host.
+	 */
+	ConnectionWarmer(HttpClient client, CachingConnectionOperator operator, Collection<String> urls, int connectionsPerHost) {
+		this.client = client;
+		this.operator = operator;
+		for (String url : urls) {
+			URI uri = URI.create(url);
+			String key = uri.getScheme() + "://" + uri.getAuthority();
+			if (!this.hosts.containsKey(key)) {
+				this.hosts.put(key, key + "/");
+			}
+		}
+		this.connectionsPerHost = connectionsPerHost;
+	}
+	
+	/**
+	 * Start resolving and connecting on background threads. Each host is
+	 * resolved once before its connections are opened concurrently.
+	 */
+	void start() {
+		this.start = System.nanoTime();
+		this.remaining.set(this.hosts.size() * this.connectionsPerHost);
+		this.executor = Executors.newFixedThreadPool(this.remaining.get(), new ThreadFactory() {
+			@Override
+			public Thread newThread(Runnable runnable) {
+				Thread thread = new Thread(runnable, "github-deploy-warm-up");
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+		for (final String url : this.hosts.values()) {
+			this.executor.execute(new Runnable() {
+				@Override
+				public void run() {
+					ConnectionWarmer.this.resolveAndPrime(url);
+				}
+			});
+		}
+	}
+	
+	private void resolveAndPrime(final String url) {
+		try {
+			if (this.operator != null) {
+				this.operator.resolve(URI.create(url).getHost());
+			}
+		} catch (IOException e) {
+			//Unknown host, the real request reports the failure
+			for (int i = 0; i < this.connectionsPerHost; i++) {
+				this.finish();
+			}
+			return;
+		}
+		int scheduled = 1;
+		try {
+			for (; scheduled < this.connectionsPerHost; scheduled++) {
+				this.executor.execute(new Runnable() {
+					@Override
+					public void run() {
+						ConnectionWarmer.this.prime(url);
+					}
+				});
+			}
+		} catch (RejectedExecutionException e) {
+			//Warm-up was stopped, account for this and every unscheduled connection
+			for (int i = scheduled; i <= this.connectionsPerHost; i++) {
+				this.finish();
+			}
+			return;
+		}
+		this.prime(url);
+	}
+	
+	private void prime(String url) {
+		try {
+			HttpResponse response = this.client.execute(new HttpHead(url));
+			EntityUtils.consume(response.getEntity());
+			this.primed.incrementAndGet();
+		} catch (IOException e) {
+			//Warm-up is best effort, the real request reports any failure
+		} catch (RuntimeException e) {
+			//Client was shut down before warm-up completed
+		} finally {
+			this.finish();
+		}
+	}
+	
+	private void finish() {
+		if (this.remaining.decrementAndGet() == 0) {
+			this.end = System.nanoTime();
+			this.finished = true;
+			this.executor.shutdown();
+		}
+	}
+	
+	/**
+	 * Record that a real request is about to be sent.
+	 */
+	void markRequest() {
+		this.firstRequest.compareAndSet(0, System.nanoTime());
+	}
+	
+	/**
+	 * Stop any warm-up still in progress.
+	 */
+	void stop() {
+		if (this.executor != null) {
+			this.executor.shutdownNow();
+		}
+	}
+	
+	/**
+	 * @return Number of distinct hosts.
+	 */
+	int getHosts() {
+		return this.hosts.size();
+	}
+	/**
+	 * @return Number of connections which were primed successfully.
+	 */
+	int getPrimed() {
+		return this.primed.get();
+	}
+	/**
+	 * @return Whether every connection attempt has finished.
+	 */
+	boolean isFinished() {
+		return this.finished;
+	}
+	/**
+	 * @return Duration of the warm-up, or the time elapsed so far if it has
+	 * not finished, in milliseconds.
+	 */
+	long getDurationMillis() {
+		long end = this.isFinished() ? this.end : System.nanoTime();
+		return (end - this.start) / 1000000;
+	}
+	/**
+	 * @return Warm-up time which ran ahead of the first real request, in
+	 * milliseconds.
+	 */
+	long getHiddenMillis() {
+		long end = this.isFinished() ? this.end : System.nanoTime();
+		long firstRequest = this.firstRequest.get();
+		if ((firstRequest != 0) && (firstRequest - end < 0)) {
+			end = firstRequest;
+		}
+		return Math.max(0, (end - this.start) / 1000000);
+	}
+}
@@ -0,0 +1,58 @@
+package com.jakewharton.maven.plugin.github_deploy;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Streaming content digest used to find artifacts with identical payloads.
+ * 
+ * @author Jake Wharton <jakewharton@gmail.com>
+ */
+class ContentHash {
+	/** Digest algorithm. */
+	private static final String DIGEST = "SHA-256";
+	/** Buffer size used when streaming files. */
+	private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+	private static final char[] HEX = "0123456789abcdef".toCharArray();
+	
+	private ContentHash() {}
+	
+	/**
+	 * Compute the digest of a file's contents in a single streaming pass.
+	 * 
+	 * @param file File to hash.
+	 * @return Hexadecimal digest.
+	 * @throws IOException
+	 */
+	static String of(File file) throws IOException {
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance(DIGEST);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+		
+		InputStream in = new FileInputStream(file);
+		try {
+			byte[] buffer = new byte[STREAM_BUFFER_SIZE];
+			int read;
+			while ((read = in.read(buffer)) != -1) {
+				digest.update(buffer, 0, read);
+			}
+		} finally {
+			in.close();
+		}
+		
+		byte[] bytes = digest.digest();
+		char[] hex = new char[bytes.length * 2];
+		for (int i = 0; i < bytes.length; i++) {
+			hex[i * 2] = HEX[(bytes[i] >> 4) & 0xf];
+			hex[i * 2 + 1] = HEX[bytes[i] & 0xf];
+		}
+		return new String(hex);
+	}
+}
@@ -0,0 +1,280 @@
+package com.jakewharton.maven.plugin.github_deploy;
+
+/**
+ * Structured event describing a step of a deployment. Events are delivered
+ * to every registered {@link DeployListener} on a background thread in the
+ * order in which they occurred.
+ * 
+ * @author Jake Wharton <jakewharton@gmail.com>
+ */
+public abstract class DeployEvent {
+	private final long timestamp = System.currentTimeMillis();
+	private final String repository;
+	private final String fileName;
+	
+	DeployEvent(String repository, String fileName) {
+		this.repository = repository;
+		this.fileName = fileName;
+	}
+	
+	/**
+	 * @return Time at which the event occurred, in milliseconds since the epoch.
+	 */
+	public long getTimestamp() {
+		return this.timestamp;
+	}
+	/**
+	 * @return Target repository in the format "owner/name", or
+	 * <code>null</code> if the event is not specific to a repository.
+	 */
+	public String getRepository() {
+		return this.repository;
+	}
+	/**
+	 * @return Artifact or download file name, or <code>null</code> if the event
+	 * is not specific to a file.
+	 */
+	public String getFileName() {
+		return this.fileName;
+	}
+	
+	/**
+	 * An artifact was selected for deployment.
+	 */
+	public static final class ArtifactSelected extends DeployEvent {
+		private final String type;
+		private final String classifier;
+		private final long bytes;
+		
+		ArtifactSelected(String fileName, String type, String classifier, long bytes) {
+			super(null, fileName);
+			this.type = type;
+			this.classifier = classifier;
+			this.bytes = bytes;
+		}
+		
+		public String getType() {
+			return this.type;
+		}
+		/**
+		 * @return Artifact classifier, or <code>null</code> for the primary
+		 * artifact.
+		 */
+		public String getClassifier() {
+			return this.classifier;
+		}
+		public long getBytes() {
+			return this.bytes;
+		}
+		
+		@Override
+		public String toString() {
+			return String.format("Artifact \"%s\" selected (%s, %s bytes).", this.getFileName(), this.type, this.bytes);
+		}
+	}
+	
+	/**
+	 * An artifact was not uploaded because its contents are identical to
+	 * another artifact which is.
+	 */
+	public static final class DuplicateSkipped extends DeployEvent {
+		private final String originalFileName;
+		private final long bytes;
+		
+		DuplicateSkipped(String fileName, String originalFileName, long bytes) {
+			super(null, fileName);
+			this.originalFileName = originalFileName;
+			this.bytes = bytes;
+		}
+		
+		/**
+		 * @return File name of the identical artifact which is uploaded.
+		 */
+		public String getOriginalFileName() {
+			return this.originalFileName;
+		}
+		/**
+		 * @return Number of bytes not uploaded to each repository.
+		 */
+		public long getBytes() {
+			return this.bytes;
+		}
+		
+		@Override
+		public String toString() {
+			return String.format("Skipped \"%s\" (%s bytes) as it is identical to \"%s\".", this.getFileName(), this.bytes, this.originalFileName);
+		}
+	}
+	
+	/**
+	 * A download was reserved and upload credentials were obtained.
+	 */
+	public static final class ReservationCompleted extends DeployEvent {
+		private final long durationMillis;
+		
+		ReservationCompleted(String repository, String fileName, long durationMillis) {
+			super(repository, fileName);
+			this.durationMillis = durationMillis;
+		}
+		
+		public long getDurationMillis() {
+			return this.durationMillis;
+		}
+		
+		@Override
+		public String toString() {
+			return String.format("Reserved \"%s\" in %s in %sms.", this.getFileName(), this.getRepository(), this.durationMillis);
+		}
+	}
+	
+	/**
+	 * A chunk of an artifact was written to the upload connection. Progress
+	 * events may be dropped when listeners fall behind, so a listener should
+	 * not expect one for every chunk.
+	 */
+	public static final class UploadProgress extends DeployEvent {
+		private final long bytesWritten;
+		private final long totalBytes;
+		
+		UploadProgress(String repository, String fileName, long bytesWritten, long totalBytes) {
+			super(repository, fileName);
+			this.bytesWritten = bytesWritten;
+			this.totalBytes = totalBytes;
+		}
+		
+		public long getBytesWritten() {
+			return this.bytesWritten;
+		}
+		public long getTotalBytes() {
+			return this.totalBytes;
+		}
+		
+		@Override
+		public String toString() {
+			return String.format("Uploaded %s of %s bytes of \"%s\" to %s.", this.bytesWritten, this.totalBytes, this.getFileName(), this.getRepository());
+		}
+	}
+	
+	/**
+	 * An artifact was uploaded.
+	 */
+	public static final class UploadCompleted extends DeployEvent {
+		private final long bytes;
+		private final long durationMillis;
+		
+		UploadCompleted(String repository, String fileName, long bytes, long durationMillis) {
+			super(repository, fileName);
+			this.bytes = bytes;
+			this.durationMillis = durationMillis;
+		}
+		
+		public long getBytes() {
+			return this.bytes;
+		}
+		public long getDurationMillis() {
+			return this.durationMillis;
+		}
+		
+		@Override
+		public String toString() {
+			return String.format("Uploaded \"%s\" (%s bytes) to %s in %sms.", this.getFileName(), this.bytes, this.getRepository(), this.durationMillis);
+		}
+	}
+	
+	/**
+	 * An existing download was deleted.
+	 */
+	public static final class DeleteCompleted extends DeployEvent {
+		private final long id;
+		private final long durationMillis;
+		
+		DeleteCompleted(String repository, String fileName, long id, long durationMillis) {
+			super(repository, fileName);
+			this.id = id;
+			this.durationMillis = durationMillis;
+		}
+		
+		public long getId() {
+			return this.id;
+		}
+		public long getDurationMillis() {
+			return this.durationMillis;
+		}
+		
+		@Override
+		public String toString() {
+			return String.format("Deleted \"%s\" (%s) from %s in %sms.", this.getFileName(), this.id, this.getRepository(), this.durationMillis);
+		}
+	}
+	
+	/**
+	 * Connection warm-up finished, or the deployment completed before it did.
+	 */
+	public static final class WarmUpCompleted extends DeployEvent {
+		private final int hosts;
+		private final int connections;
+		private final long durationMillis;
+		private final long hiddenMillis;
+		
+		WarmUpCompleted(int hosts, int connections, long durationMillis, long hiddenMillis) {
+			super(null, null);
+			this.hosts = hosts;
+			this.connections = connections;
+			this.durationMillis = durationMillis;
+			this.hiddenMillis = hiddenMillis;
+		}
+		
+		public int getHosts() {
+			return this.hosts;
+		}
+		/**
+		 * @return Number of connections primed.
+		 */
+		public int getConnections() {
+			return this.connections;
+		}
+		public long getDurationMillis() {
+			return this.durationMillis;
+		}
+		/**
+		 * @return Warm-up time which ran ahead of the first request and was
+		 * therefore removed from the critical path.
+		 */
+		public long getHiddenMillis() {
+			return this.hiddenMillis;
+		}
+		
+		@Override
+		public String toString() {
+			return String.format("Warmed up %s connections to %s hosts in %sms (%sms ahead of the first request).", this.connections, this.hosts, this.durationMillis, this.hiddenMillis);
+		}
+	}
+	
+	/**
+	 * The deployment, deploying to a repository, or deploying a single file of
+	 * it failed. Every failure of a deploy is reported, including those which
+	 * occur before any request for a file is sent.
+	 */
+	public static final class DeployFailed extends DeployEvent {
+		private final String message;
+		private final Throwable cause;
+		
+		DeployFailed(String repository, String fileName, String message, Throwable cause) {
+			super(repository, fileName);
+			this.message = message;
+			this.cause = cause;
+		}
+		
+		public String getMessage() {
+			return this.message;
+		}
+		public Throwable getCause() {
+			return this.cause;
+		}
+		
+		@Override
+		public String toString() {
+			return String.format("Deploying \"%s\" to %s failed. %s", this.getFileName(), this.getRepository(), this.message);
+		}
+	}
+}
@@ -0,0 +1,21 @@
+package com.jakewharton.maven.plugin.github_deploy;
+
+/**
+ * Receives the {@link DeployEvent}s of a deployment. Implementations are
+ * registered by class name with the <code>&lt;listeners&gt;</code>
+ * configuration list, must have a public no-argument constructor, and must be
+ * available to the plugin as a plugin dependency.
+ * <p>
+ * Events are delivered on a single background thread, so implementations do
+ * not need to be thread-safe but should not block for long.
+ * 
+ * @author Jake Wharton <jakewharton@gmail.com>
+ */
+public interface DeployListener {
+	/**
+	 * Handle an event.
+	 * 
+	 * @param event Event which occurred.
+	 */
+	void onEvent(DeployEvent event);
+}
@@ -0,0 +1,313 @@
+package com.jakewharton.maven.plugin.github_deploy;
+
+import java.io.UnsupportedEncodingException;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Compact, immutable index of a repository's existing downloads by file name.
+ * <p>
+ * Download IDs are kept in a primitive array and file names in a single
+ * sorted, front-coded byte array: every {@link #RESTART_INTERVAL}th name is
+ * stored in full and the names in between only store the suffix which
+ * differs from their predecessor. Lookups binary search the full names and
+ * then scan at most one interval, so they take <code>O(log n)</code>. URLs are
+ * not stored as they can be derived from the ID and file name.
+ * 
+ * @author Jake Wharton <jakewharton@gmail.com>
+ */
+class DownloadIndex {
+	/** Number of entries between names which are stored in full. */
+	private static final int RESTART_INTERVAL = 16;
+	/** Encoding of stored file names. */
+	private static final String ENCODING = "UTF-8";
+	/** Unsigned lexicographic ordering of encoded names. */
+	private static final Comparator<byte[]> ORDER = new Comparator<byte[]>() {
+		@Override
+		public int compare(byte[] a, byte[] b) {
+			return DownloadIndex.compare(a, 0, a.length, b);
+		}
+	};
+	
+	/** Index with no downloads. */
+	static final DownloadIndex EMPTY = new Builder().build();
+	
+	private final long[] ids;
+	private final byte[] names;
+	private final int[] restarts;
+	
+	private DownloadIndex(long[] ids, byte[] names, int[] restarts) {
+		this.ids = ids;
+		this.names = names;
+		this.restarts = restarts;
+	}
+	
+	/**
+	 * @return Number of downloads.
+	 */
+	int size() {
+		return this.ids.length;
+	}
+	
+	/**
+	 * @return ID of the download at the given position.
+	 */
+	long getId(int position) {
+		return this.ids[position];
+	}
+	
+	/**
+	 * @return File name of the download at the given position.
+	 */
+	String getFileName(int position) {
+		int restart = position / RESTART_INTERVAL;
+		Cursor cursor = new Cursor(this.restarts[restart]);
+		for (int i = restart * RESTART_INTERVAL; i < position; i++) {
+			cursor.next();
+		}
+		return cursor.next();
+	}
+	
+	/**
+	 * Find the position of a download by file name.
+	 * 
+	 * @param fileName File name.
+	 * @return Position of the download or <code>-1</code> if there is none.
+	 */
+	int indexOf(String fileName) {
+		byte[] key = encode(fileName);
+		
+		//Find the last restart point whose name is not greater than the key
+		int low = 0;
+		int high = this.restarts.length - 1;
+		int restart = -1;
+		while (low <= high) {
+			int middle = (low + high) >>> 1;
+			int offset = this.restarts[middle];
+			int length = readVarInt(this.names, offset + 1);
+			int start = offset + 1 + varIntSize(length);
+			int comparison = compare(this.names, start, length, key);
+			if (comparison == 0) {
+				return middle * RESTART_INTERVAL;
+			} else if (comparison < 0) {
+				restart = middle;
+				low = middle + 1;
+			} else {
+				high = middle - 1;
+			}
+		}
+		if (restart == -1) {
+			return -1;
+		}
+		
+		//Scan the entries of that interval
+		Cursor cursor = new Cursor(this.restarts[restart]);
+		int end = Math.min(this.ids.length, (restart + 1) * RESTART_INTERVAL);
+		for (int i = restart * RESTART_INTERVAL; i < end; i++) {
+			cursor.next();
+			int comparison = compare(cursor.buffer, 0, cursor.length, key);
+			if (comparison == 0) {
+				return i;
+			} else if (comparison > 0) {
+				break;
+			}
+		}
+		return -1;
+	}
+	
+	/**
+	 * @return Whether a download with the given file name exists.
+	 */
+	boolean contains(String fileName) {
+		return this.indexOf(fileName) != -1;
+	}
+	
+	/**
+	 * @return Number of bytes used by the stored names.
+	 */
+	int getNamesSize() {
+		return this.names.length;
+	}
+	
+	/**
+	 * Sequential decoder of front-coded names. Each entry is encoded as the
+	 * length of the prefix shared with the previous name (a single byte, zero
+	 * at restart points), the length of the suffix (a variable length integer)
+	 * and the suffix bytes.
+	 */
+	private class Cursor {
+		private int offset;
+		private byte[] buffer = new byte[64];
+		private int length;
+		
+		Cursor(int offset) {
+			this.offset = offset;
+		}
+		
+		String next() {
+			byte[] names = DownloadIndex.this.names;
+			int shared = names[this.offset] & 0xff;
+			int suffix = readVarInt(names, this.offset + 1);
+			int start = this.offset + 1 + varIntSize(suffix);
+			this.length = shared + suffix;
+			if (this.length > this.buffer.length) {
+				this.buffer = Arrays.copyOf(this.buffer, Math.max(this.length, this.buffer.length * 2));
+			}
+			System.arraycopy(names, start, this.buffer, shared, suffix);
+			this.offset = start + suffix;
+			return decode(this.buffer, this.length);
+		}
+	}
+	
+	/**
+	 * Collects downloads and builds an index from them. When a file name is
+	 * added more than once, the last ID wins.
+	 */
+	static class Builder {
+		private byte[][] names = new byte[16][];
+		private long[] ids = new long[16];
+		private int size;
+		
+		Builder add(String fileName, long id) {
+			if (this.size == this.ids.length) {
+				this.names = Arrays.copyOf(this.names, this.size * 2);
+				this.ids = Arrays.copyOf(this.ids, this.size * 2);
+			}
+			this.names[this.size] = encode(fileName);
+			this.ids[this.size] = id;
+			this.size += 1;
+			return this;
+		}
+		
+		DownloadIndex build() {
+			//Sort positions by name, keeping insertion order for equal names
+			Integer[] order = new Integer[this.size];
+			for (int i = 0; i < this.size; i++) {
+				order[i] = i;
+			}
+			Arrays.sort(order, new Comparator<Integer>() {
+				@Override
+				public int compare(Integer a, Integer b) {
+					return ORDER.compare(Builder.this.names[a], Builder.this.names[b]);
+				}
+			});
+			
+			//Drop all but the last of any duplicate names
+			int unique = 0;
+			for (int i = 0; i < this.size; i++) {
+				if ((i + 1 < this.size) && (ORDER.compare(this.names[order[i]], this.names[order[i + 1]]) == 0)) {
+					continue;
+				}
+				order[unique++] = order[i];
+			}
+			
+			long[] ids = new long[unique];
+			int[] restarts = new int[(unique + RESTART_INTERVAL - 1) / RESTART_INTERVAL];
+			ByteArray names = new ByteArray();
+			byte[] previous = null;
+			for (int i = 0; i < unique; i++) {
+				byte[] name = this.names[order[i]];
+				ids[i] = this.ids[order[i]];
+				
+				int shared = 0;
+				if (i % RESTART_INTERVAL == 0) {
+					restarts[i / RESTART_INTERVAL] = names.size;
+				} else {
+					int max = Math.min(0xff, Math.min(name.length, previous.length));
+					while ((shared < max) && (name[shared] == previous[shared])) {
+						shared += 1;
+					}
+				}
+				names.write(shared);
+				names.writeVarInt(name.length - shared);
+				names.write(name, shared, name.length - shared);
+				previous = name;
+			}
+			
+			return new DownloadIndex(ids, Arrays.copyOf(names.bytes, names.size), restarts);
+		}
+	}
+	
+	/**
+	 * Minimal growable byte array.
+	 */
+	private static class ByteArray {
+		private byte[] bytes = new byte[256];
+		private int size;
+		
+		private void ensure(int additional) {
+			if (this.size + additional > this.bytes.length) {
+				this.bytes = Arrays.copyOf(this.bytes, Math.max(this.size + additional, this.bytes.length * 2));
+			}
+		}
+		
+		void write(int value) {
+			this.ensure(1);
+			this.bytes[this.size++] = (byte)value;
+		}
+		
+		void write(byte[] source, int offset, int length) {
+			this.ensure(length);
+			System.arraycopy(source, offset, this.bytes, this.size, length);
+			this.size += length;
+		}
+		
+		void writeVarInt(int value) {
+			while ((value & ~0x7f) != 0) {
+				this.write((value & 0x7f) | 0x80);
+				value >>>= 7;
+			}
+			this.write(value);
+		}
+	}
+	
+	private static int readVarInt(byte[] bytes, int offset) {
+		int value = 0;
+		for (int shift = 0; ; shift += 7) {
+			byte b = bytes[offset++];
+			value |= (b & 0x7f) << shift;
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+		}
+	}
+	
+	private static int varIntSize(int value) {
+		int size = 1;
+		while ((value & ~0x7f) != 0) {
+			value >>>= 7;
+			size += 1;
+		}
+		return size;
+	}
+	
+	/**
+	 * Compare a range of encoded bytes with an encoded key as unsigned bytes.
+	 */
+	private static int compare(byte[] bytes, int offset, int length, byte[] key) {
+		int common = Math.min(length, key.length);
+		for (int i = 0; i < common; i++) {
+			int difference = (bytes[offset + i] & 0xff) - (key[i] & 0xff);
+			if (difference != 0) {
+				return difference;
+			}
+		}
+		return length - key.length;
+	}
+	
+	private static byte[] encode(String value) {
+		try {
+			return value.getBytes(ENCODING);
+		} catch (UnsupportedEncodingException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+	
+	private static String decode(byte[] bytes, int length) {
+		try {
+			return new String(bytes, 0, length, ENCODING);
+		} catch (UnsupportedEncodingException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,139 @@
+package com.jakewharton.maven.plugin.github_deploy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.maven.plugin.logging.Log;
+
+/**
+ * Delivers {@link DeployEvent}s to the registered {@link DeployListener}s on
+ * a single background thread. When no listeners are registered no thread is
+ * started and dispatching an event does nothing.
+ * <p>
+ * At most {@link #MAX_PENDING_PROGRESS} progress events wait for delivery at
+ * once. Further progress events are dropped until the listeners catch up so
+ * that slow listeners cannot grow the queue without bound. Every other event
+ * is always delivered.
+ * 
+ * @author Jake Wharton <jakewharton@gmail.com>
+ */
+class EventDispatcher {
+	/** Maximum time to wait for pending events to be delivered when closing. */
+	private static final long CLOSE_TIMEOUT_SECONDS = 30;
+	/** Maximum number of progress events waiting for delivery. */
+	static final int MAX_PENDING_PROGRESS = 64;
+	
+	private final Log log;
+	private final List<DeployListener> listeners = new ArrayList<DeployListener>();
+	private final AtomicInteger pendingProgress = new AtomicInteger();
+	private ExecutorService executor;
+	
+	EventDispatcher(Log log) {
+		this.log = log;
+	}
+	
+	/**
+	 * Register a listener. Listeners must be registered before the first
+	 * event is dispatched.
+	 * 
+	 * @param listener Listener to register.
+	 */
+	void add(DeployListener listener) {
+		this.listeners.add(listener);
+		if (this.executor == null) {
+			this.executor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+				@Override
+				public Thread newThread(Runnable runnable) {
+					Thread thread = new Thread(runnable, "github-deploy-events");
+					thread.setDaemon(true);
+					return thread;
+				}
+			});
+		}
+	}
+	
+	/**
+	 * @return Whether any listeners are registered. Callers can check this to
+	 * avoid creating events which would not be delivered.
+	 */
+	boolean isEnabled() {
+		return this.executor != null;
+	}
+	
+	/**
+	 * Queue an event for delivery to every listener.
+	 * 
+	 * @param event Event to deliver.
+	 */
+	void dispatch(final DeployEvent event) {
+		if (this.executor == null) {
+			return;
+		}
+		final boolean progress = event instanceof DeployEvent.UploadProgress;
+		if (progress && (this.pendingProgress.incrementAndGet() > MAX_PENDING_PROGRESS)) {
+			//Listeners are behind, later progress events supersede this one
+			this.pendingProgress.decrementAndGet();
+			return;
+		}
+		try {
+			this.executor.execute(new Runnable() {
+				@Override
+				public void run() {
+					if (progress) {
+						EventDispatcher.this.pendingProgress.decrementAndGet();
+					}
+					for (DeployListener listener : EventDispatcher.this.listeners) {
+						try {
+							listener.onEvent(event);
+						} catch (RuntimeException e) {
+							EventDispatcher.this.log.warn(String.format(GitHubDeployMojo.WARN_LISTENER, listener.getClass().getName()), e);
+						}
+					}
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			//Dispatcher was closed, events from abandoned work are dropped
+			if (progress) {
+				this.pendingProgress.decrementAndGet();
+			}
+		}
+	}
+	
+	/**
+	 * Deliver any pending events and stop the delivery thread.
+	 */
+	void close() {
+		if (this.executor == null) {
+			return;
+		}
+		this.executor.shutdown();
+		try {
+			this.executor.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+	
+	/**
+	 * Listener which writes every event to a log at debug level.
+	 */
+	static class LoggingListener implements DeployListener {
+		private final Log log;
+		
+		LoggingListener(Log log) {
+			this.log = log;
+		}
+		
+		@Override
+		public void onEvent(DeployEvent event) {
+			if (this.log.isDebugEnabled()) {
+				this.log.debug(event.toString());
+			}
+		}
+	}
+}
@@ -1,16 +1,29 @@
 package com.jakewharton.maven.plugin.github_deploy;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
-import java.util.LinkedList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.ResourceBundle;
+import java.util.WeakHashMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.apache.commons.io.IOUtils;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpEntityEnclosingRequest;
 import org.apache.http.HttpResponse;
 import org.apache.http.HttpStatus;
 import org.apache.http.client.ClientProtocolException;
@@ -18,11 +31,14 @@ import org.apache.http.client.HttpClient;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.client.methods.HttpUriRequest;
-import org.apache.http.entity.BasicHttpEntity;
+import org.apache.http.conn.ClientConnectionOperator;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.entity.ByteArrayEntity;
 import org.apache.http.entity.mime.MultipartEntity;
-import org.apache.http.entity.mime.content.FileBody;
 import org.apache.http.entity.mime.content.StringBody;
 import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.tsccm.ThreadSafeClientConnManager;
+import org.apache.http.util.EntityUtils;
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugin.MojoFailureException;
@@ -44,6 +60,8 @@ public class GitHubDeployMojo extends AbstractMojo {
 	static final ResourceBundle STRINGS = ResourceBundle.getBundle(GitHubDeployMojo.class.getPackage().getName() + ".Strings");
 	/** Skipped execution message. */
 	static final String INFO_SKIP = STRINGS.getString("INFO_SKIP");
+	/** No deployable artifacts message. */
+	static final String INFO_NOTHING = STRINGS.getString("INFO_NOTHING");
 	/** Assemble target artifacts message. */
 	static final String INFO_ARTIFACTS = STRINGS.getString("INFO_ARTIFACTS");
 	/** Valid artifact detail message. */
@@ -62,6 +80,18 @@ public class GitHubDeployMojo extends AbstractMojo {
 	static final String INFO_DEPLOY_UPLOAD = STRINGS.getString("INFO_DEPLOY_UPLOAD");
 	/** Successful deployment message. */
 	static final String INFO_SUCCESS = STRINGS.getString("INFO_SUCCESS");
+	/** Per-repository deployment results message. */
+	static final String INFO_REPOSITORIES = STRINGS.getString("INFO_REPOSITORIES");
+	/** Successful repository deployment message. */
+	static final String INFO_REPOSITORY_SUCCESS = STRINGS.getString("INFO_REPOSITORY_SUCCESS");
+	/** Adaptive concurrency summary message. */
+	static final String INFO_CONCURRENCY = STRINGS.getString("INFO_CONCURRENCY");
+	/** Skipped duplicate artifact message. */
+	static final String INFO_DUPLICATE = STRINGS.getString("INFO_DUPLICATE");
+	/** Connection warm-up summary message. */
+	static final String INFO_WARM_UP = STRINGS.getString("INFO_WARM_UP");
+	/** Time to first available artifact message. */
+	static final String INFO_FIRST_AVAILABLE = STRINGS.getString("INFO_FIRST_AVAILABLE");
 	/** Artifact not found error message. */
 	static final String ERROR_NOT_FOUND = STRINGS.getString("ERROR_NOT_FOUND");
 	/** Maven offline error message. */
@@ -90,31 +120,87 @@ public class GitHubDeployMojo extends AbstractMojo {
 	static final String ERROR_AUTH_TOKEN = STRINGS.getString("ERROR_AUTH_TOKEN");
 	/** Types and ignores specified error message. */
 	static final String ERROR_TYPES_AND_IGNORES = STRINGS.getString("ERROR_TYPES_AND_IGNORES");
-
+	/** Invalid repository string error message. */
+	static final String ERROR_REPOSITORY_INVALID = STRINGS.getString("ERROR_REPOSITORY_INVALID");
+	/** Delta comparison message. */
+	static final String INFO_DELTA = STRINGS.getString("INFO_DELTA");
+	/** No previous delta index message. */
+	static final String INFO_DELTA_NONE = STRINGS.getString("INFO_DELTA_NONE");
+	/** Previous delta index block size mismatch message. */
+	static final String INFO_DELTA_BLOCK_SIZE = STRINGS.getString("INFO_DELTA_BLOCK_SIZE");
+	/** Delta index update warning message. */
+	static final String WARN_DELTA_INDEX = STRINGS.getString("WARN_DELTA_INDEX");
+	/** Failed deploy listener warning message. */
+	static final String WARN_LISTENER = STRINGS.getString("WARN_LISTENER");
+	/** Failed repository deployment error message. */
+	static final String ERROR_REPOSITORY_FAILED = STRINGS.getString("ERROR_REPOSITORY_FAILED");
+	/** Failed repositories summary error message. */
+	static final String ERROR_REPOSITORIES_FAILED = STRINGS.getString("ERROR_REPOSITORIES_FAILED");
+	/** Interrupted deployment error message. */
+	static final String ERROR_INTERRUPTED = STRINGS.getString("ERROR_INTERRUPTED");
+	/** Response size exceeded error message. */
+	static final String ERROR_RESPONSE_TOO_LARGE = STRINGS.getString("ERROR_RESPONSE_TOO_LARGE");
+	/** Deploy listener creation error message. */
+	static final String ERROR_LISTENER = STRINGS.getString("ERROR_LISTENER");
+	/** Failed artifact verification error message. */
+	static final String ERROR_VERIFY = STRINGS.getString("ERROR_VERIFY");
+	/** Artifact size changed verification error message. */
+	static final String ERROR_VERIFY_SIZE = STRINGS.getString("ERROR_VERIFY_SIZE");
+	/** Corrupt archive verification error message. */
+	static final String ERROR_VERIFY_ARCHIVE = STRINGS.getString("ERROR_VERIFY_ARCHIVE");
+	/** Missing signature verification error message. */
+	static final String ERROR_VERIFY_SIGNATURE = STRINGS.getString("ERROR_VERIFY_SIGNATURE");
+	/** Unknown upload order rule error message. */
+	static final String ERROR_UPLOAD_ORDER = STRINGS.getString("ERROR_UPLOAD_ORDER");
+	
+	/**
+	 * GitHub user login and token read from the git configuration, keyed by
+	 * the settings of the build session which read them. Every module of a
+	 * session is injected the same settings instance, and entries are released
+	 * with the session.
+	 */
+	private static final Map<Settings, String[]> GIT_CREDENTIALS = new WeakHashMap<Settings, String[]>();
+	
 	/** Git command to get GitHub user login. */
 	private static final String[] GIT_GITHUB_USER = new String[] { "git", "config", "--global", "github.user" };
 	/** Git command to get GitHub user token. */
 	private static final String[] GIT_GITHUB_TOKEN = new String[] { "git", "config", "--global", "github.token" };
 	/** Regular expression to validate the pom.xml's SCM value. */
 	private static final Pattern REGEX_REPO = Pattern.compile("^scm:git:git@github.com:(.+?)/(.+?)\\.git(?:/.*?)?$");
+	/** Regular expression to validate a configured "owner/name" repository string. */
+	private static final Pattern REGEX_REPOSITORY = Pattern.compile("^([^/\\s]+)/([^/\\s]+)$");
 	/** Regular expression to get the downloads authentication token. */
 	private static final Pattern REGEX_AUTH_TOKEN = Pattern.compile("<script>window._auth_token = \"([0-9a-f]+)\"</script>");
-	/** Regular expression to locate existing download entries. */
-	private static final String REGEX_DOWNLOADS = "<a href=\"(/%1$s/downloads/([0-9]+))\"(?:.*?)<a href=\"(/downloads/%1$s/(.*?))\">(.*?)</a>";
-	/** Repository seperator between owner and name. */
-	private static final String REPO_SEPERATOR = "/";
 	/** GitHub base URL. */
 	private static final String URL_BASE = "https://github.com";
 	/** URL target for GitHub repo downloads. */
-	private static final String URL_DOWNLOADS = URL_BASE + "/%s/downloads";
+	private static final String URL_DOWNLOADS = "%s/%s/downloads";
 	/** URL target for GitHu repo downloads (including authentication). */
 	private static final String URL_DOWNLOADS_WITH_AUTH = URL_DOWNLOADS + "?login=%s&token=%s";
+	/** URL target for deleting an existing download by ID. */
+	private static final String URL_DOWNLOAD_DELETE = URL_DOWNLOADS + "/%s";
+	/** URL of an existing download by file name. */
+	private static final String URL_DOWNLOAD = "%s/downloads/%s/%s";
 	/** URL target for artifact deployment. */
 	private static final String URL_DEPLOY = "https://github.s3.amazonaws.com/";
 	/** HTTP entity for sending deploy info. */
 	private static final String ENTITY_DEPLOY_INFO = "login=%s&token=%s&file_length=%s&content_type=%s&file_name=%s&description=";
 	/** HTTP entity for deleting existing download. */
 	private static final String ENTITY_DELETE_DOWNLOAD = "login=%s&token=%s&_method=delete&authenticity_token=";
+	/** Default maximum number of pooled connections to a single host. */
+	private static final int DEFAULT_MAX_PER_ROUTE = 2;
+	/** Maximum number of connections primed to a single host during warm-up. */
+	private static final int MAX_WARM_UP_CONNECTIONS = 4;
+	/** Maximum number of attempts for a throttled request. */
+	private static final int MAX_ATTEMPTS = 5;
+	/** Base delay before retrying a throttled request, doubled for each attempt. */
+	private static final long RETRY_DELAY_MILLIS = 100;
+	/** File extension of delta block indexes. */
+	private static final String DELTA_INDEX_EXTENSION = ".idx";
+	/** Maximum size in bytes of a deploy information or upload response. */
+	private static final long MAX_SMALL_RESPONSE_SIZE = 64 * 1024;
+	/** Character set of a response which does not declare one. */
+	private static final String DEFAULT_RESPONSE_CHARSET = "UTF-8";
 	/** Settings server ID. */
 	private static final String SETTINGS_SERVER_ID = "github-deploy";
 	/** Artifact MIME type. */
@@ -172,9 +258,18 @@ public class GitHubDeployMojo extends AbstractMojo {
 	private String repoName;
 	
 	/**
-	 * Target repository string in the format "owner/name".
+	 * Target repositories in the format "owner/name". When specified, the
+	 * artifacts are deployed to every repository concurrently and the
+	 * {@link #repoOwner} and {@link #repoName} values are ignored.
+	 * 
+	 * @parameter
 	 */
-	private String repo;
+	private List<String> repositories;
+	
+	/**
+	 * Resolved target repositories.
+	 */
+	private List<GitHubRepository> targets;
 	
 	/**
 	 * Skip execution.
@@ -182,7 +277,7 @@ public class GitHubDeployMojo extends AbstractMojo {
 	 * @parameter default-value="false"
 	 */
 	private boolean skip;
-
+	
 	/**
 	 * Replace existing downloads.
 	 * 
@@ -211,6 +306,123 @@ public class GitHubDeployMojo extends AbstractMojo {
 	 */
 	private String githubToken;
 	
+	/**
+	 * Maximum number of concurrent uploads and deletes for each repository.
+	 * Values greater than one enable an adaptive limiter which raises or lowers
+	 * the number of requests in flight based on observed latency and throttling
+	 * responses.
+	 * 
+	 * @parameter default-value="1"
+	 */
+	private int concurrency = 1;
+	
+	/**
+	 * Number of buffers shared by all uploads for streaming artifact data.
+	 * 
+	 * @parameter default-value="4"
+	 */
+	private int uploadBufferCount = 4;
+	
+	/**
+	 * Size in bytes of each upload buffer. The memory used for streaming
+	 * artifacts is bounded by <code>uploadBufferCount * uploadBufferSize</code>
+	 * regardless of the number or size of the artifacts.
+	 * 
+	 * @parameter default-value="65536"
+	 */
+	private int uploadBufferSize = 64 * 1024;
+	
+	/**
+	 * Upload artifacts with identical contents only once. Artifacts whose
+	 * contents match an artifact earlier in the upload order are skipped and
+	 * reported. Existing downloads of skipped artifacts are deleted when
+	 * {@link #replaceExisting} is set and fail the deploy otherwise, as for
+	 * uploaded artifacts.
+	 * 
+	 * @parameter default-value="false"
+	 */
+	private boolean dedupe;
+	
+	/**
+	 * Resolve and open pooled connections to GitHub and the upload host in the
+	 * background while repository information and credentials are loaded, so
+	 * DNS lookups and TLS handshakes are not on the critical path.
+	 * 
+	 * @parameter default-value="false"
+	 */
+	private boolean warmUp;
+	
+	/**
+	 * Maximum size in bytes of the downloads page read when listing existing
+	 * downloads, or zero to read it whatever its size. The page grows with
+	 * the number of downloads so it is not limited by default.
+	 * 
+	 * @parameter default-value="0"
+	 */
+	private long maxResponseSize;
+	
+	/**
+	 * Compare each artifact against a block index of the version last uploaded
+	 * to the repository and report how much of it has changed.
+	 * 
+	 * @parameter default-value="false"
+	 */
+	private boolean delta;
+	
+	/**
+	 * Directory in which delta block indexes of uploaded artifacts are kept.
+	 * 
+	 * @parameter default-value="${user.home}/.m2/github-deploy"
+	 */
+	private File deltaIndexDirectory;
+	
+	/**
+	 * Block size in bytes used when indexing artifacts for delta comparison.
+	 * Changing it causes the next deploy of each artifact to be treated as
+	 * entirely new.
+	 * 
+	 * @parameter default-value="65536"
+	 */
+	private int deltaBlockSize = 64 * 1024;
+	
+	/**
+	 * Verify each artifact before it is uploaded, or its existing download is
+	 * deleted. Verification checks the artifact's size has not changed since
+	 * it was selected and that zip archives have an intact central directory.
+	 * It runs in the background while repository information is loaded.
+	 * 
+	 * @parameter default-value="true"
+	 */
+	private boolean verify = true;
+	
+	/**
+	 * Require a detached <code>.asc</code> signature for every artifact, either
+	 * as another deployed artifact or alongside the artifact's file.
+	 * 
+	 * @parameter default-value="false"
+	 */
+	private boolean requireSignatures;
+	
+	/**
+	 * Class names of {@link DeployListener}s which receive structured events
+	 * for each step of the deployment. Listener classes must be added as
+	 * dependencies of the plugin.
+	 * 
+	 * @parameter
+	 */
+	private List<String> listeners;
+	
+	/**
+	 * Priority rules which order artifact uploads, highest first. Each rule is
+	 * one of <code>primary</code>, <code>type:&lt;type&gt;</code>,
+	 * <code>classifier:&lt;classifier&gt;</code>, <code>smallest</code>, or
+	 * <code>largest</code>. Defaults to the packaged artifact followed by the
+	 * remaining artifacts smallest first.
+	 * 
+	 * @parameter
+	 */
+	private List<String> uploadOrder;
+	
 	/**
 	 * Artifact types to ignore.
 	 * 
@@ -224,7 +436,7 @@ public class GitHubDeployMojo extends AbstractMojo {
 	 * @parameter
 	 */
 	private List<String> types;
-	
+    
     /**
      * Packaged artifact.
      * 
@@ -243,16 +455,6 @@ public class GitHubDeployMojo extends AbstractMojo {
      */
     private List<Artifact> attachedArtifacts;
 	
-    /**
-     * GitHub authentication token for deleting existing downloads.
-     */
-    private String authToken;
-    
-    /**
-     * List of existing downlods for the repository.
-     */
-    private Map<String, GitHubDownload> existingDownloads;
-    
 	/**
 	 * Maven settings.
 	 * 
@@ -267,6 +469,96 @@ public class GitHubDeployMojo extends AbstractMojo {
 	 */
 	private HttpClient httpClient;
 	
+	/**
+	 * Whether the common HTTP client was created here, and should therefore
+	 * be shut down at the end of the execution.
+	 */
+	private boolean ownsHttpClient;
+	
+	/**
+	 * Host name cache of the common HTTP client, or <code>null</code> if the
+	 * client was not created here.
+	 */
+	private CachingConnectionOperator connectionOperator;
+	
+	/**
+	 * Limiter for the number of in-flight HTTP requests.
+	 */
+	private AdaptiveLimiter limiter;
+	
+	/**
+	 * Worker pool for concurrent uploads and deletes, or <code>null</code> when
+	 * requests are performed serially.
+	 */
+	private ExecutorService workers;
+	
+	/**
+	 * Admission order of the current worker task until its first request has
+	 * queued for the limiter: the latch of the task before it, which must
+	 * queue first (or <code>null</code>), and its own latch, which allows the
+	 * next task to queue.
+	 */
+	private final ThreadLocal<CountDownLatch[]> firstRequestOrder = new ThreadLocal<CountDownLatch[]>();
+	
+	/**
+	 * Background connection warm-up, or <code>null</code> when disabled.
+	 */
+	private ConnectionWarmer warmer;
+	
+	/**
+	 * Buffers shared by all uploads.
+	 */
+	private BufferPool bufferPool;
+	
+	/**
+	 * Listener instances registered in addition to the configured listeners.
+	 */
+	private final List<DeployListener> extraListeners = new ArrayList<DeployListener>();
+	
+	/**
+	 * Dispatcher of deploy events to listeners.
+	 */
+	private EventDispatcher events;
+	
+	/**
+	 * Length of each artifact file when it was selected for deployment. Later
+	 * checks and the upload itself expect the file to still have this length.
+	 */
+	private Map<File, Long> artifactLengths = new HashMap<File, Long>();
+	
+	/**
+	 * Pending or completed verification of each artifact file, or
+	 * <code>null</code> when verification is disabled.
+	 */
+	private Map<File, Future<Void>> verifications;
+	
+	/**
+	 * Start time of the deployment, in nanoseconds.
+	 */
+	private long deployStart;
+	
+	/**
+	 * File name of the first artifact to finish uploading, or
+	 * <code>null</code> if none has.
+	 */
+	private String firstAvailable;
+	
+	/**
+	 * Time from the start of the deployment until the first artifact finished
+	 * uploading, in milliseconds.
+	 */
+	private long firstAvailableMillis;
+	
+	/**
+	 * GitHub base URL.
+	 */
+	private String baseUrl = URL_BASE;
+	
+	/**
+	 * URL target for artifact deployment.
+	 */
+	private String deployUrl = URL_DEPLOY;
+	
 	
 	@Override
 	public void execute() throws MojoFailureException {
@@ -278,32 +570,428 @@ public class GitHubDeployMojo extends AbstractMojo {
 			return;
 		}
 		
-		//Perform initialization
-		this.initialize();
-
-		//Load repository data
-		this.loadRepositoryInformation();
-		this.loadRepositoryCredentials();
-
 		//Assemble all valid deploy targets
 		List<Artifact> artifacts = this.assembleDeployTargets();
+		if (artifacts.isEmpty()) {
+			this.getLog().info(INFO_NOTHING);
+			return;
+		}
 		
-		//Find and delete any existing downloads
-		this.loadExistingDownloadsInformation();
-		if (this.existingDownloads.size() > 0) {
-			this.deleteAnyExisting(artifacts);
+		//Perform initialization
+		this.initialize();
+		if (this.events.isEnabled()) {
+			for (Artifact artifact : artifacts) {
+				this.events.dispatch(new DeployEvent.ArtifactSelected(artifact.getFile().getName(), artifact.getType(), artifact.getClassifier(), this.getArtifactLength(artifact.getFile())));
+			}
 		}
 		
-		//Do deployment of artifact
-		for (Artifact artifact : artifacts) {
-			this.deploy(artifact.getFile());
+		int deployed;
+		try {
+			deployed = this.deployToTargets(artifacts);
+		} finally {
+			this.events.close();
 		}
 		
 		//Success!
-		this.getLog().info(String.format(INFO_SUCCESS, artifacts.size()));
+		if (this.workers != null) {
+			this.getLog().info(String.format(INFO_CONCURRENCY, this.limiter.getLimit(), this.limiter.getPeakInFlight(), this.limiter.getThrottled()));
+		}
+		this.getLog().info(String.format(INFO_SUCCESS, deployed));
 		this.getLog().debug("Done!");
 	}
 	
+	/**
+	 * Resolve the target repositories and credentials and deploy the artifacts
+	 * to every target.
+	 * 
+	 * @param artifacts Artifact list.
+	 * @return Number of artifacts deployed to each repository.
+	 * @throws MojoFailureException
+	 */
+	private int deployToTargets(List<Artifact> artifacts) throws MojoFailureException {
+		this.deployStart = System.nanoTime();
+		this.firstAvailable = null;
+		this.verifications = null;
+		
+		//Verify and hash artifacts and warm up connections in the background while the network work starts
+		ExecutorService background = null;
+		Map<File, Future<String>> hashes = null;
+		if (this.verify || this.dedupe) {
+			int threads = Math.min(artifacts.size(), Runtime.getRuntime().availableProcessors());
+			this.getLog().debug("Starting background artifact checks...");
+			if (this.getLog().isDebugEnabled()) {
+				this.getLog().debug("  $threads = " + threads);
+			}
+			background = Executors.newFixedThreadPool(threads);
+			if (this.verify) {
+				this.startVerification(artifacts, background);
+			}
+			if (this.dedupe) {
+				hashes = this.startHashing(artifacts, background);
+			}
+		}
+		this.startWarmUp();
+		
+		try {
+			//Load repository data
+			List<Artifact> uploads = artifacts;
+			try {
+				this.loadRepositoryInformation();
+				this.loadRepositoryCredentials();
+				
+				//Existing downloads of skipped duplicates are handled as those of uploaded artifacts
+				if (hashes != null) {
+					uploads = this.removeDuplicates(artifacts, hashes);
+				}
+			} catch (MojoFailureException e) {
+				this.events.dispatch(new DeployEvent.DeployFailed(null, null, e.getMessage(), e));
+				throw e;
+			}
+			
+			if (this.targets.size() == 1) {
+				this.deployToRepository(this.targets.get(0), uploads, artifacts);
+			} else {
+				this.deployToRepositories(uploads, artifacts);
+			}
+			
+			if (this.warmer != null) {
+				this.getLog().info(String.format(INFO_WARM_UP, this.warmer.getPrimed(), this.warmer.getHosts(), this.warmer.getDurationMillis(), this.warmer.getHiddenMillis()));
+				this.events.dispatch(new DeployEvent.WarmUpCompleted(this.warmer.getHosts(), this.warmer.getPrimed(), this.warmer.getDurationMillis(), this.warmer.getHiddenMillis()));
+			}
+			if (this.firstAvailable != null) {
+				this.getLog().info(String.format(INFO_FIRST_AVAILABLE, this.firstAvailable, this.firstAvailableMillis));
+			}
+			return uploads.size();
+		} finally {
+			if (background != null) {
+				background.shutdownNow();
+			}
+			if (this.warmer != null) {
+				this.warmer.stop();
+			}
+			if (this.workers != null) {
+				this.workers.shutdownNow();
+			}
+			if (this.ownsHttpClient) {
+				this.httpClient.getConnectionManager().shutdown();
+				this.httpClient = null;
+				this.connectionOperator = null;
+				this.ownsHttpClient = false;
+			}
+		}
+	}
+	
+	/**
+	 * Start verifying every artifact.
+	 * 
+	 * @param artifacts Artifact list.
+	 * @param executor Pool on which to verify.
+	 */
+	private void startVerification(List<Artifact> artifacts, ExecutorService executor) {
+		this.getLog().debug(". Starting artifact verification.");
+		
+		List<File> files = new ArrayList<File>();
+		for (Artifact artifact : artifacts) {
+			files.add(artifact.getFile());
+		}
+		final ArtifactVerifier verifier = new ArtifactVerifier(files, this.requireSignatures);
+		
+		this.verifications = new HashMap<File, Future<Void>>();
+		for (final File file : files) {
+			final long expectedLength = this.getArtifactLength(file);
+			this.verifications.put(file, executor.submit(new Callable<Void>() {
+				@Override
+				public Void call() throws IOException {
+					verifier.verify(file, expectedLength);
+					return null;
+				}
+			}));
+		}
+	}
+	
+	/**
+	 * Start hashing the contents of every artifact which has the same size as
+	 * another artifact, as only those can be identical.
+	 * 
+	 * @param artifacts Artifact list.
+	 * @param executor Pool on which to hash.
+	 * @return Pending hash of each candidate artifact file.
+	 */
+	private Map<File, Future<String>> startHashing(List<Artifact> artifacts, ExecutorService executor) {
+		this.getLog().debug(". Starting artifact hashing.");
+		
+		Map<Long, Integer> sizes = new HashMap<Long, Integer>();
+		for (Artifact artifact : artifacts) {
+			Long size = this.getArtifactLength(artifact.getFile());
+			Integer count = sizes.get(size);
+			sizes.put(size, (count == null) ? 1 : count + 1);
+		}
+		
+		Map<File, Future<String>> hashes = new HashMap<File, Future<String>>();
+		for (Artifact artifact : artifacts) {
+			final File file = artifact.getFile();
+			if (sizes.get(this.getArtifactLength(file)) > 1) {
+				hashes.put(file, executor.submit(new Callable<String>() {
+					@Override
+					public String call() throws IOException {
+						return ContentHash.of(file);
+					}
+				}));
+			}
+		}
+		if (this.getLog().isDebugEnabled()) {
+			this.getLog().debug("  $candidates = " + hashes.size());
+		}
+		return hashes;
+	}
+	
+	/**
+	 * Remove artifacts whose contents are identical to an earlier artifact in
+	 * the list. Artifacts which could not be hashed are kept.
+	 * 
+	 * @param artifacts Artifact list.
+	 * @param hashes Pending hash of each candidate artifact file.
+	 * @return Artifacts with unique contents.
+	 * @throws MojoFailureException
+	 */
+	private List<Artifact> removeDuplicates(List<Artifact> artifacts, Map<File, Future<String>> hashes) throws MojoFailureException {
+		this.getLog().debug("Removing duplicate artifacts...");
+		
+		Map<String, Artifact> originals = new HashMap<String, Artifact>();
+		List<Artifact> unique = new ArrayList<Artifact>();
+		try {
+			for (Artifact artifact : artifacts) {
+				Future<String> hash = hashes.get(artifact.getFile());
+				Artifact original = null;
+				if (hash != null) {
+					try {
+						String key = hash.get();
+						original = originals.get(key);
+						if (original == null) {
+							originals.put(key, artifact);
+						}
+					} catch (ExecutionException e) {
+						if (this.getLog().isDebugEnabled()) {
+							this.getLog().debug(String.format("  . Unable to hash \"%s\".", artifact.getFile().getName()));
+						}
+					}
+				}
+				
+				if (original == null) {
+					unique.add(artifact);
+				} else {
+					this.getLog().info(String.format(INFO_DUPLICATE, artifact.getFile().getName(), original.getFile().getName()));
+					this.events.dispatch(new DeployEvent.DuplicateSkipped(artifact.getFile().getName(), original.getFile().getName(), this.getArtifactLength(artifact.getFile())));
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			this.error(e, ERROR_INTERRUPTED);
+		}
+		if (unique.size() < artifacts.size()) {
+			this.getLog().info("");
+		}
+		return unique;
+	}
+	
+	/**
+	 * Start priming pooled connections to every host in the deploy plan, if
+	 * enabled.
+	 */
+	private void startWarmUp() {
+		this.warmer = null;
+		if (!this.warmUp) {
+			return;
+		}
+		this.getLog().debug("Starting connection warm-up...");
+		
+		int connections = Math.min(MAX_WARM_UP_CONNECTIONS, this.getRepositoryCount() * Math.max(1, this.concurrency));
+		if (this.getLog().isDebugEnabled()) {
+			this.getLog().debug("  $connections = " + connections);
+		}
+		this.warmer = new ConnectionWarmer(this.getHttpClient(), this.connectionOperator, Arrays.asList(this.baseUrl, this.deployUrl), connections);
+		this.warmer.start();
+	}
+	
+	/**
+	 * Wait for the verification of an artifact to complete.
+	 * 
+	 * @param artifactFile Artifact file.
+	 * @throws MojoFailureException If the artifact failed verification.
+	 */
+	private void awaitVerification(File artifactFile) throws MojoFailureException {
+		if (this.verifications == null) {
+			return;
+		}
+		try {
+			this.verifications.get(artifactFile).get();
+		} catch (ExecutionException e) {
+			this.error(ERROR_VERIFY, artifactFile.getName(), e.getCause().getLocalizedMessage());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			this.error(e, ERROR_INTERRUPTED);
+		}
+	}
+	
+	/**
+	 * Deploy the artifacts to every target repository concurrently. Each
+	 * repository's listing, deletes, and uploads are performed on its own
+	 * thread over the shared HTTP connection pool.
+	 * 
+	 * @param artifacts Artifact list.
+	 * @param allArtifacts Artifact list including skipped duplicates.
+	 * @throws MojoFailureException
+	 */
+	private void deployToRepositories(final List<Artifact> artifacts, final List<Artifact> allArtifacts) throws MojoFailureException {
+		if (this.getLog().isDebugEnabled()) {
+			this.getLog().debug(String.format("Deploying to %s repositories concurrently...", this.targets.size()));
+		}
+		
+		ExecutorService executor = Executors.newFixedThreadPool(this.targets.size());
+		Map<GitHubRepository, Future<Integer>> results = new LinkedHashMap<GitHubRepository, Future<Integer>>();
+		try {
+			for (final GitHubRepository repository : this.targets) {
+				results.put(repository, executor.submit(new Callable<Integer>() {
+					@Override
+					public Integer call() throws MojoFailureException {
+						return GitHubDeployMojo.this.deployToRepository(repository, artifacts, allArtifacts);
+					}
+				}));
+			}
+			
+			//Wait for and report the result of each repository
+			this.getLog().info(INFO_REPOSITORIES);
+			int failures = 0;
+			for (Map.Entry<GitHubRepository, Future<Integer>> result : results.entrySet()) {
+				try {
+					int deployed = result.getValue().get();
+					this.getLog().info(String.format(INFO_REPOSITORY_SUCCESS, result.getKey(), deployed));
+				} catch (ExecutionException e) {
+					failures += 1;
+					this.getLog().error(String.format(ERROR_REPOSITORY_FAILED, result.getKey(), e.getCause().getLocalizedMessage()));
+				}
+			}
+			this.getLog().info("");
+			
+			if (failures > 0) {
+				this.error(ERROR_REPOSITORIES_FAILED, failures, this.targets.size());
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			this.error(e, ERROR_INTERRUPTED);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+	
+	/**
+	 * Deploy the artifacts to a single repository, deleting any existing
+	 * downloads as configured.
+	 * 
+	 * @param repository Target repository.
+	 * @param artifacts Artifact list.
+	 * @param allArtifacts Artifact list including skipped duplicates, whose
+	 * existing downloads are deleted as well.
+	 * @return Number of deployed artifacts.
+	 * @throws MojoFailureException
+	 */
+	int deployToRepository(final GitHubRepository repository, List<Artifact> artifacts, List<Artifact> allArtifacts) throws MojoFailureException {
+		//Find and delete any existing downloads
+		try {
+			this.loadExistingDownloadsInformation(repository);
+		} catch (MojoFailureException e) {
+			this.events.dispatch(new DeployEvent.DeployFailed(repository.getRepo(), null, e.getMessage(), e));
+			throw e;
+		}
+		if (repository.getExistingDownloads().size() > 0) {
+			this.deleteAnyExisting(repository, allArtifacts);
+		}
+		
+		//Do deployment of artifact
+		List<Callable<Void>> uploads = new ArrayList<Callable<Void>>();
+		for (final Artifact artifact : artifacts) {
+			uploads.add(new Callable<Void>() {
+				@Override
+				public Void call() throws MojoFailureException {
+					try {
+						GitHubDeployMojo.this.deploy(repository, artifact.getFile());
+					} catch (MojoFailureException e) {
+						GitHubDeployMojo.this.events.dispatch(new DeployEvent.DeployFailed(repository.getRepo(), artifact.getFile().getName(), e.getMessage(), e));
+						throw e;
+					}
+					return null;
+				}
+			});
+		}
+		this.runAll(uploads);
+		
+		return artifacts.size();
+	}
+	
+	/**
+	 * Run a list of tasks to completion, on the worker pool if concurrency is
+	 * enabled or in order on the calling thread otherwise. On the worker pool
+	 * the first request of each task is queued for the limiter after that of
+	 * the task before it, so requests are admitted in task order while the
+	 * work before them (verification, delta comparison) runs in parallel.
+	 * 
+	 * @param tasks Tasks to run.
+	 * @throws MojoFailureException If any task failed.
+	 */
+	private <T> void runAll(List<Callable<T>> tasks) throws MojoFailureException {
+		try {
+			if (this.workers == null) {
+				for (Callable<T> task : tasks) {
+					task.call();
+				}
+				return;
+			}
+			
+			//Each task's first request queues after that of the task before it so requests start in task order
+			List<Callable<T>> ordered = new ArrayList<Callable<T>>();
+			CountDownLatch previous = null;
+			for (final Callable<T> task : tasks) {
+				final CountDownLatch[] order = new CountDownLatch[] { previous, new CountDownLatch(1) };
+				ordered.add(new Callable<T>() {
+					@Override
+					public T call() throws Exception {
+						GitHubDeployMojo.this.firstRequestOrder.set(order);
+						try {
+							return task.call();
+						} finally {
+							GitHubDeployMojo.this.firstRequestOrder.remove();
+							order[1].countDown();
+						}
+					}
+				});
+				previous = order[1];
+			}
+			
+			MojoFailureException failure = null;
+			for (Future<T> future : this.workers.invokeAll(ordered)) {
+				try {
+					future.get();
+				} catch (ExecutionException e) {
+					if (failure == null) {
+						failure = (e.getCause() instanceof MojoFailureException)
+								? (MojoFailureException)e.getCause()
+								: new MojoFailureException(e.getCause().getLocalizedMessage(), e.getCause());
+					}
+				}
+			}
+			if (failure != null) {
+				throw failure;
+			}
+		} catch (MojoFailureException e) {
+			throw e;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			this.error(e, ERROR_INTERRUPTED);
+		} catch (Exception e) {
+			throw new MojoFailureException(e.getLocalizedMessage(), e);
+		}
+	}
+	
 	/**
 	 * Perform plugin initialization.
 	 * 
@@ -318,26 +1006,112 @@ public class GitHubDeployMojo extends AbstractMojo {
 			this.error(ERROR_OFFLINE);
 		}
 		
-		this.getLog().debug(". Instantiating default HTTP client.");
-		this.httpClient = new DefaultHttpClient();
+		//Create every listener before any threads are started
+		this.getLog().debug(". Registering deploy listeners.");
+		List<DeployListener> listeners = new ArrayList<DeployListener>();
+		if (this.getLog().isDebugEnabled()) {
+			listeners.add(new EventDispatcher.LoggingListener(this.getLog()));
+		}
+		if (this.listeners != null) {
+			for (String listener : this.listeners) {
+				if (this.getLog().isDebugEnabled()) {
+					this.getLog().debug("  $listener = " + listener);
+				}
+				listeners.add(this.createListener(listener.trim()));
+			}
+		}
+		listeners.addAll(this.extraListeners);
+		this.events = new EventDispatcher(this.getLog());
+		for (DeployListener listener : listeners) {
+			this.events.add(listener);
+		}
+		
+		int repositoryCount = this.getRepositoryCount();
+		int concurrency = Math.max(1, this.concurrency);
+		if (this.limiter == null) {
+			this.getLog().debug(". Instantiating request limiter.");
+			if (this.getLog().isDebugEnabled()) {
+				this.getLog().debug("  $concurrency = " + concurrency);
+				this.getLog().debug("  $repositoryCount = " + repositoryCount);
+			}
+			this.limiter = new AdaptiveLimiter(repositoryCount * concurrency);
+		}
+		
+		this.getLog().debug(". Allocating upload buffers.");
+		if (this.getLog().isDebugEnabled()) {
+			this.getLog().debug("  $uploadBufferCount = " + this.uploadBufferCount);
+			this.getLog().debug("  $uploadBufferSize = " + this.uploadBufferSize);
+		}
+		this.bufferPool = new BufferPool(this.uploadBufferCount, this.uploadBufferSize);
+		this.workers = null;
+		if (concurrency > 1) {
+			this.workers = Executors.newFixedThreadPool(repositoryCount * concurrency);
+		}
+	}
+	
+	/**
+	 * Instantiate a configured listener class.
+	 * 
+	 * @param className Listener class name.
+	 * @return Listener instance.
+	 * @throws MojoFailureException
+	 */
+	private DeployListener createListener(String className) throws MojoFailureException {
+		try {
+			return Class.forName(className, true, GitHubDeployMojo.class.getClassLoader()).asSubclass(DeployListener.class).newInstance();
+		} catch (ClassNotFoundException e) {
+			this.error(e, ERROR_LISTENER, className);
+		} catch (ClassCastException e) {
+			this.error(e, ERROR_LISTENER, className);
+		} catch (InstantiationException e) {
+			this.error(e, ERROR_LISTENER, className);
+		} catch (IllegalAccessException e) {
+			this.error(e, ERROR_LISTENER, className);
+		}
+		return null; //Never reached
+	}
+	
+	/**
+	 * @return Number of configured target repositories.
+	 */
+	private int getRepositoryCount() {
+		return Math.max(1, (this.repositories != null) ? this.repositories.size() : 0);
 	}
 	
 	/**
 	 * Load the target repository information. This can be specified directly in
-	 * the plugin configuration or can be inferred from the SCM developer
-	 * connection URL.
+	 * the plugin configuration, either as a single owner and name or as a list
+	 * of repositories, or can be inferred from the SCM developer connection URL.
 	 * 
 	 * @throws MojoFailureException
 	 */
 	void loadRepositoryInformation() throws MojoFailureException {
 		this.getLog().debug("Loading repository information...");
+		this.targets = new ArrayList<GitHubRepository>();
+		
+		if ((this.repositories != null) && (this.repositories.size() > 0)) {
+			this.getLog().debug(". Using repository list from plugin configuration.");
+			for (String repository : this.repositories) {
+				Matcher match = REGEX_REPOSITORY.matcher(repository.trim());
+				if (!match.matches()) {
+					this.error(ERROR_REPOSITORY_INVALID, repository);
+				}
+				this.targets.add(new GitHubRepository(match.group(1), match.group(2)));
+				if (this.getLog().isDebugEnabled()) {
+					this.getLog().debug("  $repo = " + repository.trim());
+				}
+			}
+			return;
+		}
 		
 		if (StringUtils.isBlank(this.repoOwner) || StringUtils.isBlank(this.repoName)) {
 			this.getLog().debug(". No information supplied in plugin configuration.");
 			
 			//Try to get the target repository from the SCM URL.
 			this.getLog().debug(". Trying to infer from SCM URL.");
-			this.getLog().debug("  $scmUrl = " + this.scmUrl);
+			if (this.getLog().isDebugEnabled()) {
+				this.getLog().debug("  $scmUrl = " + this.scmUrl);
+			}
 			Matcher match = REGEX_REPO.matcher(this.scmUrl);
 			if (!match.matches()) {
 				this.error(ERROR_SCM_INVALID);
@@ -347,10 +1121,11 @@ public class GitHubDeployMojo extends AbstractMojo {
 			this.repoOwner = match.group(1);
 			this.repoName = match.group(2);
 		}
-		this.repo = this.repoOwner + REPO_SEPERATOR + this.repoName;
-		this.getLog().debug("  $repoOwner = " + this.repoOwner);
-		this.getLog().debug("  $repoName = " + this.repoName);
-		this.getLog().debug("  $repo = " + this.repo);
+		this.targets.add(new GitHubRepository(this.repoOwner, this.repoName));
+		if (this.getLog().isDebugEnabled()) {
+			this.getLog().debug("  $repoOwner = " + this.repoOwner);
+			this.getLog().debug("  $repoName = " + this.repoName);
+		}
 	}
 	
 	/**
@@ -375,10 +1150,9 @@ public class GitHubDeployMojo extends AbstractMojo {
 				this.githubToken = githubDeploy.getPassphrase();
 			} else {
 				this.getLog().debug(". No credentials in settings.xml. Checking git configuration.");
-				try {
-					this.githubLogin = IOUtils.toString(Runtime.getRuntime().exec(GIT_GITHUB_USER).getInputStream());
-					this.githubToken = IOUtils.toString(Runtime.getRuntime().exec(GIT_GITHUB_TOKEN).getInputStream());
-				} catch (IOException e) {}
+				String[] credentials = this.loadGitCredentials();
+				this.githubLogin = credentials[0];
+				this.githubToken = credentials[1];
 			}
 			if (StringUtils.isBlank(this.githubLogin) || StringUtils.isBlank(this.githubToken)) {
 				this.error(ERROR_NO_CREDENTIALS);
@@ -386,83 +1160,138 @@ public class GitHubDeployMojo extends AbstractMojo {
 		}
 		this.githubLogin = this.githubLogin.trim();
 		this.githubToken = this.githubToken.trim();
-		this.getLog().debug("  $githubLogin = " + this.githubLogin);
-		this.getLog().debug("  $githubToken = " + this.githubToken);
+		if (this.getLog().isDebugEnabled()) {
+			this.getLog().debug("  $githubLogin = " + this.githubLogin);
+		}
+	}
+	
+	/**
+	 * Read the GitHub user login and token from the global git configuration.
+	 * The git processes are only forked once per build session.
+	 * 
+	 * @return Array of login and token, either of which may be blank.
+	 */
+	String[] loadGitCredentials() {
+		synchronized (GIT_CREDENTIALS) {
+			String[] credentials = GIT_CREDENTIALS.get(this.settings);
+			if (credentials == null) {
+				credentials = new String[] { "", "" };
+				try {
+					credentials[0] = IOUtils.toString(Runtime.getRuntime().exec(GIT_GITHUB_USER).getInputStream());
+					credentials[1] = IOUtils.toString(Runtime.getRuntime().exec(GIT_GITHUB_TOKEN).getInputStream());
+				} catch (IOException e) {}
+				GIT_CREDENTIALS.put(this.settings, credentials);
+			}
+			return credentials;
+		}
 	}
 	
 	/**
 	 * Load the repository's existing downloads and authentication token.
 	 * 
+	 * @param repository Target repository.
 	 * @throws MojoFailureException
 	 */
-	void loadExistingDownloadsInformation() throws MojoFailureException {
-		this.getLog().info(INFO_EXISTING);
+	void loadExistingDownloadsInformation(GitHubRepository repository) throws MojoFailureException {
+		this.getLog().info(String.format(INFO_EXISTING, repository));
 		this.getLog().debug("Loading existing downloads information...");
 		
 		//Perform request
-		String url = String.format(URL_DOWNLOADS_WITH_AUTH, this.repo, this.githubLogin, this.githubToken);
-		this.getLog().debug("  $url = " + url);
+		String url = String.format(URL_DOWNLOADS_WITH_AUTH, this.baseUrl, repository.getRepo(), this.githubLogin, this.githubToken);
+		if (this.getLog().isDebugEnabled()) {
+			this.getLog().debug("  $url = " + String.format(URL_DOWNLOADS, this.baseUrl, repository.getRepo()));
+		}
 		this.getLog().debug(". Performing request.");
-		String content = this.checkedExecute(new HttpGet(url), HttpStatus.SC_OK, ERROR_CHECK_DOWNLOADS);
-
+		long maxSize = (this.maxResponseSize > 0) ? this.maxResponseSize : Long.MAX_VALUE;
+		String content = this.checkedExecute(new HttpGet(url), HttpStatus.SC_OK, maxSize, ERROR_CHECK_DOWNLOADS);
+		
 		//Parse authentication token
 		this.getLog().debug(". Parsing content for authentication token.");
 		Matcher authTokenMatcher = REGEX_AUTH_TOKEN.matcher(content);
 		if (authTokenMatcher.find()) {
-			this.authToken = authTokenMatcher.group(1);
-			this.getLog().debug("  $authToken = " + authTokenMatcher.group(1));
+			repository.setAuthToken(authTokenMatcher.group(1));
 		} else {
 			this.error(ERROR_AUTH_TOKEN);
 		}
-
+		
 		//Parse download list
 		this.getLog().debug(". Parsing content for existing downloads.");
-		this.existingDownloads = new HashMap<String, GitHubDownload>();
-		String regex = String.format(REGEX_DOWNLOADS, this.repo);
-		Pattern pattern = Pattern.compile(regex, Pattern.DOTALL);
-		Matcher matcher = pattern.matcher(content);
+		DownloadIndex.Builder builder = new DownloadIndex.Builder();
+		Matcher matcher = repository.getDownloadsPattern().matcher(content);
+		boolean debug = this.getLog().isDebugEnabled();
 		while (matcher.find()) {
-			GitHubDownload download = new GitHubDownload();
-			
-			download.setDeleteUrl(URL_BASE + matcher.group(1));
-			download.setId(Long.parseLong(matcher.group(2)));
-			download.setUrl(URL_BASE + matcher.group(3));
-			download.setFileName(matcher.group(4));
-			download.setName(matcher.group(5));
-			
-			this.getLog().debug(String.format("  . Found download \"%s\".", download.getFileName()));
-			this.existingDownloads.put(download.getFileName(), download);
+			if (debug) {
+				this.getLog().debug(String.format("  . Found download \"%s\".", matcher.group(4)));
+			}
+			builder.add(matcher.group(4), Long.parseLong(matcher.group(2)));
+		}
+		DownloadIndex existingDownloads = builder.build();
+		repository.setExistingDownloads(existingDownloads);
+		if (this.getLog().isDebugEnabled()) {
+			this.getLog().debug(String.format(". Found %s downloads. ", existingDownloads.size()));
 		}
-		this.getLog().debug(String.format(". Found %s downloads. ", this.existingDownloads.size()));
+	}
+	
+	/**
+	 * Create the download at a position of a repository's existing downloads.
+	 * Its URLs are derived from its ID and file name.
+	 * 
+	 * @param repository Target repository.
+	 * @param position Position in {@link GitHubRepository#getExistingDownloads()}.
+	 * @return Existing download.
+	 */
+	GitHubDownload createExistingDownload(GitHubRepository repository, int position) {
+		DownloadIndex existingDownloads = repository.getExistingDownloads();
+		GitHubDownload download = new GitHubDownload();
+		download.setId(existingDownloads.getId(position));
+		download.setFileName(existingDownloads.getFileName(position));
+		download.setName(download.getFileName());
+		download.setDeleteUrl(String.format(URL_DOWNLOAD_DELETE, this.baseUrl, repository.getRepo(), download.getId()));
+		download.setUrl(String.format(URL_DOWNLOAD, this.baseUrl, repository.getRepo(), download.getFileName()));
+		return download;
 	}
 	
 	/**
 	 * Delete an existing download from GitHub.
 	 * 
+	 * @param repository Target repository.
 	 * @param download Download to delete.
 	 * @throws MojoFailureException
 	 */
-	void deleteExistingDownload(GitHubDownload download) throws MojoFailureException {
+	void deleteExistingDownload(GitHubRepository repository, GitHubDownload download) throws MojoFailureException {
 		this.getLog().info(String.format(INFO_EXISTING_DELETE, download.getFileName()));
 		this.getLog().debug(". Deleting download...");
 		
 		//Setup download delete request
 		String url = download.getDeleteUrl();
-		this.getLog().debug("    $url = " + url);
+		if (this.getLog().isDebugEnabled()) {
+			this.getLog().debug("    $url = " + url);
+		}
 		HttpPost request = new HttpPost(url);
-		BasicHttpEntity entity = new BasicHttpEntity();
-		String body = String.format(ENTITY_DELETE_DOWNLOAD, this.githubLogin, this.githubToken, this.authToken);
-		this.getLog().debug("    $body = " + body);
-		entity.setContent(IOUtils.toInputStream(body));
-		request.setEntity(entity);
+		String body = String.format(ENTITY_DELETE_DOWNLOAD, this.githubLogin, this.githubToken, repository.getAuthToken());
+		request.setEntity(new ByteArrayEntity(body.getBytes()));
 		
 		//Perform request
 		this.getLog().debug("  . Performing delete.");
-		this.checkedExecute(request, HttpStatus.SC_MOVED_TEMPORARILY, ERROR_DOWNLOAD_DELETE, download.getFileName());
+		long start = System.nanoTime();
+		this.checkedExecute(request, HttpStatus.SC_MOVED_TEMPORARILY, MAX_SMALL_RESPONSE_SIZE, ERROR_DOWNLOAD_DELETE, download.getFileName());
+		this.events.dispatch(new DeployEvent.DeleteCompleted(repository.getRepo(), download.getFileName(), download.getId(), millisSince(start)));
 	}
 	
 	/**
-	 * Assemble a list of valid artifacts for deployment.
+	 * Record that an artifact finished uploading, keeping the first.
+	 * 
+	 * @param fileName Artifact file name.
+	 */
+	private synchronized void markAvailable(String fileName) {
+		if (this.firstAvailable == null) {
+			this.firstAvailable = fileName;
+			this.firstAvailableMillis = millisSince(this.deployStart);
+		}
+	}
+	
+	/**
+	 * Assemble a list of valid artifacts for deployment, in upload order.
 	 * 
 	 * @return Valid artifact list.
 	 * @throws MojoFailureException
@@ -476,7 +1305,20 @@ public class GitHubDeployMojo extends AbstractMojo {
 			this.error(ERROR_TYPES_AND_IGNORES);
 		}
 		
-		Map<String, Artifact> artifacts = new HashMap<String, Artifact>();
+		//Make sure every upload order rule is recognized
+		List<String> rules = ((this.uploadOrder != null) && (this.uploadOrder.size() > 0)) ? this.uploadOrder : UploadScheduler.DEFAULT_RULES;
+		if (this.getLog().isDebugEnabled()) {
+			this.getLog().debug("  $uploadOrder = " + rules);
+		}
+		UploadScheduler scheduler = null;
+		try {
+			scheduler = new UploadScheduler(rules, this.artifact);
+		} catch (IllegalArgumentException e) {
+			this.error(e, ERROR_UPLOAD_ORDER, e.getMessage());
+		}
+		
+		Map<String, Artifact> artifacts = new LinkedHashMap<String, Artifact>();
+		this.artifactLengths = new HashMap<File, Long>();
 		
 		this.checkAddArtifact(artifacts, this.artifact);
 		for (Artifact attachedArtifact : this.attachedArtifacts) {
@@ -484,8 +1326,10 @@ public class GitHubDeployMojo extends AbstractMojo {
 		}
 		this.getLog().info("");
 		
-		this.getLog().debug(String.format(". Found %s valid deployable artifacts.", artifacts.size()));
-		return new LinkedList<Artifact>(artifacts.values());
+		if (this.getLog().isDebugEnabled()) {
+			this.getLog().debug(String.format(". Found %s valid deployable artifacts.", artifacts.size()));
+		}
+		return scheduler.schedule(artifacts.values());
 	}
 	
 	/**
@@ -496,12 +1340,17 @@ public class GitHubDeployMojo extends AbstractMojo {
 	 * @throws MojoFailureException
 	 */
 	private void checkAddArtifact(Map<String, Artifact> artifacts, Artifact checkArtifact) throws MojoFailureException {
-		this.getLog().debug(String.format(". Check-adding artifact \"%s\"...", checkArtifact.getFile().getName()));
+		boolean debug = this.getLog().isDebugEnabled();
+		if (debug) {
+			this.getLog().debug(String.format(". Check-adding artifact \"%s\"...", checkArtifact.getFile()));
+		}
 		
 		//Check if the artifact is a valid upload candidate
 		if ((checkArtifact.getFile() != null) && (checkArtifact.getFile().isFile())) {
 			//Check if the artifact's type is ignored or absent from type list
-			this.getLog().debug(String.format("  . Checking artifact type (%s) is ignored or absent from type list.", checkArtifact.getType()));
+			if (debug) {
+				this.getLog().debug(String.format("  . Checking artifact type (%s) is ignored or absent from type list.", checkArtifact.getType()));
+			}
 			if ((this.types != null) && !this.types.contains(checkArtifact.getType())
 				|| (this.ignoreTypes != null) && this.ignoreTypes.contains(checkArtifact.getType())) {
 				this.getLog().info(String.format(INFO_ARTIFACT_IGNORE, checkArtifact.getFile().getName(), checkArtifact.getType()));
@@ -512,43 +1361,91 @@ public class GitHubDeployMojo extends AbstractMojo {
 					this.getLog().info(String.format(INFO_ARTIFACT_DETAIL, checkArtifact.getFile().getName(), checkArtifact.getType()));
 					this.getLog().debug("  . Adding artifact to valid deployment list.");
 					artifacts.put(checkArtifact.getFile().getName(), checkArtifact);
+					this.artifactLengths.put(checkArtifact.getFile(), checkArtifact.getFile().length());
 				}
 			}
 		}
 	}
-
+	
+	/**
+	 * @param artifactFile Artifact file.
+	 * @return Length of the artifact file when it was selected for deployment.
+	 */
+	private long getArtifactLength(File artifactFile) {
+		Long length = this.artifactLengths.get(artifactFile);
+		return (length != null) ? length : artifactFile.length();
+	}
+	
 	/**
 	 * Delete existing downloads for any artifacts in a list if they exist, or,
 	 * if {@link #deleteAllExisting} is <code>true</code>, delete all.
 	 * 
+	 * @param repository Target repository.
 	 * @param artifacts Artifact list.
 	 * @throws MojoFailureException
 	 */
-	private void deleteAnyExisting(List<Artifact> artifacts) throws MojoFailureException {
+	private void deleteAnyExisting(final GitHubRepository repository, List<Artifact> artifacts) throws MojoFailureException {
+		DownloadIndex existingDownloads = repository.getExistingDownloads();
+		List<GitHubDownload> deletes = new ArrayList<GitHubDownload>();
 		if (this.deleteAllExisting) {
 			this.getLog().debug("Deleting all existing downloads...");
 			
-			for (Map.Entry<String, GitHubDownload> downloadEntry : this.existingDownloads.entrySet()) {
-				this.deleteExistingDownload(downloadEntry.getValue());
+			//Nothing is deleted unless every artifact can be uploaded
+			for (Artifact artifact : artifacts) {
+				try {
+					this.awaitVerification(artifact.getFile());
+				} catch (MojoFailureException e) {
+					this.events.dispatch(new DeployEvent.DeployFailed(repository.getRepo(), artifact.getFile().getName(), e.getMessage(), e));
+					throw e;
+				}
+			}
+			for (int i = 0; i < existingDownloads.size(); i++) {
+				deletes.add(this.createExistingDownload(repository, i));
 			}
 		} else {
 			this.getLog().debug("Deleting any existing downloads which match pending artifact deployments...");
 			
 			for (Artifact artifact : artifacts) {
 				//Check if artifact download exists already
-				this.getLog().debug(String.format("  . Checking for \"%s\".", artifact.getFile().getName()));
-				if (this.existingDownloads.containsKey(artifact.getFile().getName())) {
+				if (this.getLog().isDebugEnabled()) {
+					this.getLog().debug(String.format("  . Checking for \"%s\".", artifact.getFile().getName()));
+				}
+				int position = existingDownloads.indexOf(artifact.getFile().getName());
+				if (position != -1) {
 					this.getLog().debug("  . Artifact already has an existing download.");
 					//Handle existing download
-					if (this.replaceExisting) {
-						this.deleteExistingDownload(this.existingDownloads.get(artifact.getFile().getName()));
-					} else {
-						this.error(String.format(ERROR_DOWNLOAD_EXISTS, artifact.getFile().getName()));
+					try {
+						if (this.replaceExisting) {
+							this.awaitVerification(artifact.getFile());
+							deletes.add(this.createExistingDownload(repository, position));
+						} else {
+							this.error(String.format(ERROR_DOWNLOAD_EXISTS, artifact.getFile().getName()));
+						}
+					} catch (MojoFailureException e) {
+						this.events.dispatch(new DeployEvent.DeployFailed(repository.getRepo(), artifact.getFile().getName(), e.getMessage(), e));
+						throw e;
 					}
 				}
 			}
 		}
 		
+		//Perform the deletes
+		List<Callable<Void>> tasks = new ArrayList<Callable<Void>>();
+		for (final GitHubDownload download : deletes) {
+			tasks.add(new Callable<Void>() {
+				@Override
+				public Void call() throws MojoFailureException {
+					try {
+						GitHubDeployMojo.this.deleteExistingDownload(repository, download);
+					} catch (MojoFailureException e) {
+						GitHubDeployMojo.this.events.dispatch(new DeployEvent.DeployFailed(repository.getRepo(), download.getFileName(), e.getMessage(), e));
+						throw e;
+					}
+					return null;
+				}
+			});
+		}
+		this.runAll(tasks);
 		
 		this.getLog().info("");
 	}
@@ -557,28 +1454,40 @@ public class GitHubDeployMojo extends AbstractMojo {
 	 * Deploy an artifact to GitHub downloads. This method assumes that a
 	 * download with the same name does not already exist.
 	 * 
+	 * @param repository Target repository.
 	 * @param artifactFile Artifact for upload.
 	 * @throws MojoFailureException
 	 */
-	void deploy(File artifactFile) throws MojoFailureException {
-		this.getLog().info(String.format(INFO_DEPLOY, artifactFile.getName()));
+	void deploy(final GitHubRepository repository, final File artifactFile) throws MojoFailureException {
+		this.getLog().info(String.format(INFO_DEPLOY, artifactFile.getName(), repository));
 		this.getLog().debug("Deploying file.");
+		boolean debug = this.getLog().isDebugEnabled();
+		this.awaitVerification(artifactFile);
+		
+		//Compare against the previously uploaded version
+		File deltaIndexFile = null;
+		BlockIndex deltaIndex = null;
+		if (this.delta) {
+			deltaIndexFile = new File(new File(this.deltaIndexDirectory, repository.getRepo()), artifactFile.getName() + DELTA_INDEX_EXTENSION);
+			deltaIndex = this.compareDelta(artifactFile, deltaIndexFile);
+		}
 		
 		this.getLog().info(INFO_DEPLOY_SEND);
 		this.getLog().debug(". Sending deploy info and loading S3 details...");
 		
 		//Prepare request
-		String url1 = String.format(URL_DOWNLOADS, this.repo);
-		this.getLog().debug("  $url = " + url1);
+		String url1 = String.format(URL_DOWNLOADS, this.baseUrl, repository.getRepo());
+		if (debug) {
+			this.getLog().debug("  $url = " + url1);
+		}
 		HttpPost request1 = new HttpPost(url1);
-		BasicHttpEntity entity1 = new BasicHttpEntity();
-		String body1 = String.format(ENTITY_DEPLOY_INFO, this.githubLogin, this.githubToken, artifactFile.length(), MIME_TYPE, artifactFile.getName());
-		this.getLog().debug("  $body = " + body1);
-		entity1.setContent(IOUtils.toInputStream(body1));
-		request1.setEntity(entity1);
+		String body1 = String.format(ENTITY_DEPLOY_INFO, this.githubLogin, this.githubToken, this.getArtifactLength(artifactFile), MIME_TYPE, artifactFile.getName());
+		request1.setEntity(new ByteArrayEntity(body1.getBytes()));
 		this.getLog().debug(". Sending deploy information.");
-		String content = this.checkedExecute(request1, HttpStatus.SC_OK, ERROR_DEPLOY_INFO);
-
+		long start1 = System.nanoTime();
+		String content = this.checkedExecute(request1, HttpStatus.SC_OK, MAX_SMALL_RESPONSE_SIZE, ERROR_DEPLOY_INFO);
+		this.events.dispatch(new DeployEvent.ReservationCompleted(repository.getRepo(), artifactFile.getName(), millisSince(start1)));
+		
 		//Parse JSON response
 		this.getLog().debug(". Parsing JSON response.");
 		JSONObject deployInfo = null;
@@ -596,18 +1505,18 @@ public class GitHubDeployMojo extends AbstractMojo {
 		String accessKeyId = this.checkedJsonProperty(deployInfo, JSON_PROPERTY_ACCESS_KEY_ID);
 		String signature = this.checkedJsonProperty(deployInfo, JSON_PROPERTY_SIGNATURE);
 		String acl = this.checkedJsonProperty(deployInfo, JSON_PROPERTY_ACL);
-		this.getLog().debug("  $prefix = " + prefix);
-		this.getLog().debug("  $key = " + key);
-		this.getLog().debug("  $policy = " + policy);
-		this.getLog().debug("  $accessKeyId = " + accessKeyId);
-		this.getLog().debug("  $signature = " + signature);
-		this.getLog().debug("  $acl = " + acl);
+		if (debug) {
+			this.getLog().debug("  $key = " + key);
+			this.getLog().debug("  $acl = " + acl);
+		}
 		
 		this.getLog().debug("Deploying artifact to repository.");
 		
 		//Set up upload request
-		String url2 = URL_DEPLOY;
-		this.getLog().debug("  $url = " + url2);
+		String url2 = this.deployUrl;
+		if (debug) {
+			this.getLog().debug("  $url = " + url2);
+		}
 		HttpPost request2 = new HttpPost(url2);
 		
 		this.getLog().debug(". Assembling multipart request.");
@@ -621,7 +1530,16 @@ public class GitHubDeployMojo extends AbstractMojo {
 			entity2.addPart(HTTP_PROPERTY_SIGNATURE, new StringBody(signature));
 			entity2.addPart(HTTP_PROPERTY_SUCCESS_ACTION_STATUS, new StringBody(Integer.toString(HttpStatus.SC_CREATED)));
 			entity2.addPart(HTTP_PROPERTY_CONTENT_TYPE, new StringBody(MIME_TYPE));
-			entity2.addPart(HTTP_PROPERTY_FILE, new FileBody(artifactFile));
+			PooledFileBody.Progress progress = null;
+			if (this.events.isEnabled()) {
+				progress = new PooledFileBody.Progress() {
+					@Override
+					public void onProgress(long written, long total) {
+						GitHubDeployMojo.this.events.dispatch(new DeployEvent.UploadProgress(repository.getRepo(), artifactFile.getName(), written, total));
+					}
+				};
+			}
+			entity2.addPart(HTTP_PROPERTY_FILE, new PooledFileBody(artifactFile, this.getArtifactLength(artifactFile), MIME_TYPE, this.bufferPool, progress));
 		} catch (UnsupportedEncodingException e) {
 			this.error(e, ERROR_ENCODING);
 		}
@@ -631,10 +1549,66 @@ public class GitHubDeployMojo extends AbstractMojo {
 		this.getLog().info(INFO_DEPLOY_UPLOAD);
 		this.getLog().info("");
 		this.getLog().debug(". Performing upload.");
-		this.checkedExecute(request2, HttpStatus.SC_CREATED, ERROR_DEPLOYING);
-		this.getLog().debug(String.format(". Successfully deployed \"%s\".", artifactFile.getName()));
+		long start2 = System.nanoTime();
+		this.checkedExecute(request2, HttpStatus.SC_CREATED, MAX_SMALL_RESPONSE_SIZE, ERROR_DEPLOYING);
+		this.events.dispatch(new DeployEvent.UploadCompleted(repository.getRepo(), artifactFile.getName(), this.getArtifactLength(artifactFile), millisSince(start2)));
+		this.markAvailable(artifactFile.getName());
+		
+		//Record the uploaded version for the next comparison
+		if (deltaIndex != null) {
+			this.getLog().debug(". Updating delta index.");
+			if (debug) {
+				this.getLog().debug("  $deltaIndexFile = " + deltaIndexFile);
+			}
+			try {
+				deltaIndex.write(deltaIndexFile);
+			} catch (IOException e) {
+				this.getLog().warn(String.format(WARN_DELTA_INDEX, artifactFile.getName()), e);
+			}
+		}
 	}
-
+	
+	/**
+	 * Compare an artifact against the block index of its previously uploaded
+	 * version, if any, and report how much of the artifact is new. The
+	 * comparison is a single streaming pass which also indexes the artifact.
+	 * 
+	 * @param artifactFile Artifact for upload.
+	 * @param deltaIndexFile Index of the previously uploaded version.
+	 * @return Index of the artifact, or <code>null</code> if it could not be
+	 * read.
+	 */
+	private BlockIndex compareDelta(File artifactFile, File deltaIndexFile) {
+		this.getLog().debug(". Comparing against previous upload.");
+		if (this.getLog().isDebugEnabled()) {
+			this.getLog().debug("  $deltaIndexFile = " + deltaIndexFile);
+		}
+		try {
+			BlockIndex previous = deltaIndexFile.isFile() ? BlockIndex.read(deltaIndexFile) : null;
+			if (previous == null) {
+				this.getLog().info(INFO_DELTA_NONE);
+				return BlockIndex.build(artifactFile, this.deltaBlockSize);
+			}
+			
+			BlockIndex.Delta result = previous.diff(artifactFile, this.deltaBlockSize);
+			if (result == null) {
+				//Blocks of a different size cannot be compared so start over
+				this.getLog().info(String.format(INFO_DELTA_BLOCK_SIZE, previous.getBlockSize(), this.deltaBlockSize));
+				return BlockIndex.build(artifactFile, this.deltaBlockSize);
+			}
+			long length = result.getIndex().getLength();
+			long percent = (length > 0) ? (result.getChanged() * 100 / length) : 0;
+			this.getLog().info(String.format(INFO_DELTA, result.getChanged(), length, percent));
+			if (this.getLog().isDebugEnabled()) {
+				this.getLog().debug(String.format("  . Matched %s of %s previous blocks.", result.getMatchedBlocks(), previous.getBlockCount()));
+			}
+			return result.getIndex();
+		} catch (IOException e) {
+			this.getLog().warn(String.format(WARN_DELTA_INDEX, artifactFile.getName()), e);
+			return null;
+		}
+	}
+	
 	/**
 	 * Display and throw error.
 	 * 
@@ -664,35 +1638,126 @@ public class GitHubDeployMojo extends AbstractMojo {
 	}
 	
 	/**
-	 * Execute an HTTP request in a checked manner.
+	 * Execute an HTTP request in a checked manner. The request waits for a slot
+	 * from the request limiter and is retried with an increasing delay if the
+	 * server responds with a throttling status.
 	 * 
 	 * @param request Request to execute.
 	 * @param expectedStatus Expected HTTP return status.
+	 * @param maxResponseSize Maximum number of bytes read from the body.
 	 * @param errorMessage Error message to display is status does not match.
 	 * @return Contents of return body.
 	 * @throws MojoFailureException
 	 */
-	private String checkedExecute(HttpUriRequest request, int expectedStatus, String errorMessage, Object... errorMessageArgs) throws MojoFailureException {
+	private String checkedExecute(HttpUriRequest request, int expectedStatus, long maxResponseSize, String errorMessage, Object... errorMessageArgs) throws MojoFailureException {
 		errorMessage = String.format(errorMessage, errorMessageArgs);
 		
+		long bytes = 0;
+		if (request instanceof HttpEntityEnclosingRequest) {
+			bytes = Math.max(0, ((HttpEntityEnclosingRequest)request).getEntity().getContentLength());
+		}
+		
 		try {
-			HttpResponse response = this.httpClient.execute(request);
-			
-			int status = response.getStatusLine().getStatusCode();
-			this.getLog().debug("< HTTP " + status);
-			if (status == expectedStatus) {
-				return IOUtils.toString(response.getEntity().getContent());
+			for (int attempt = 1; ; attempt++) {
+				int status = AdaptiveLimiter.STATUS_NONE;
+				long ticket;
+				CountDownLatch[] order = this.firstRequestOrder.get();
+				if (order != null) {
+					this.firstRequestOrder.remove();
+					if (order[0] != null) {
+						order[0].await();
+					}
+					ticket = this.limiter.enqueue();
+					order[1].countDown();
+				} else {
+					ticket = this.limiter.enqueue();
+				}
+				long start = this.limiter.admit(ticket);
+				if (this.warmer != null) {
+					this.warmer.markRequest();
+				}
+				try {
+					HttpResponse response = this.getHttpClient().execute(request);
+					HttpEntity entity = response.getEntity();
+					
+					status = response.getStatusLine().getStatusCode();
+					if (this.getLog().isDebugEnabled()) {
+						this.getLog().debug("< HTTP " + status);
+					}
+					if (status == expectedStatus) {
+						return (entity != null) ? readLimited(entity, maxResponseSize) : "";
+					}
+					EntityUtils.consume(entity);
+				} finally {
+					this.limiter.release(start, bytes, status);
+					if (this.getLog().isDebugEnabled()) {
+						this.getLog().debug("  $limit = " + this.limiter.getLimit());
+					}
+				}
+				
+				if ((status != HttpStatus.SC_SERVICE_UNAVAILABLE) && (status != AdaptiveLimiter.STATUS_TOO_MANY_REQUESTS) || (attempt == MAX_ATTEMPTS)) {
+					break;
+				}
+				if (this.getLog().isDebugEnabled()) {
+					this.getLog().debug(String.format(". Request throttled. Retrying (attempt %s of %s).", attempt + 1, MAX_ATTEMPTS));
+				}
+				Thread.sleep(RETRY_DELAY_MILLIS << (attempt - 1));
 			}
 		} catch (ClientProtocolException e) {
 			this.error(e, errorMessage);
 		} catch (IOException e) {
 			this.error(e, errorMessage);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			this.error(e, ERROR_INTERRUPTED);
 		}
 		
 		this.error(errorMessage);
 		return null; //Never reached
 	}
 	
+	/**
+	 * @return Milliseconds elapsed since a {@link System#nanoTime()} value.
+	 */
+	private static long millisSince(long start) {
+		return (System.nanoTime() - start) / 1000000;
+	}
+	
+	/**
+	 * Read a response body, failing if it is larger than a maximum size. The
+	 * body is decoded with the character set declared by the response, or
+	 * UTF-8 if none is declared.
+	 * 
+	 * @param entity Response body.
+	 * @param maxSize Maximum number of bytes to read.
+	 * @return Contents of the body.
+	 * @throws IOException
+	 */
+	static String readLimited(HttpEntity entity, long maxSize) throws IOException {
+		InputStream in = entity.getContent();
+		if (in == null) {
+			return "";
+		}
+		try {
+			if (entity.getContentLength() > maxSize) {
+				throw new IOException(String.format(ERROR_RESPONSE_TOO_LARGE, maxSize));
+			}
+			ByteArrayOutputStream content = new ByteArrayOutputStream();
+			byte[] buffer = new byte[4096];
+			int read;
+			while ((read = in.read(buffer)) != -1) {
+				if (content.size() + read > maxSize) {
+					throw new IOException(String.format(ERROR_RESPONSE_TOO_LARGE, maxSize));
+				}
+				content.write(buffer, 0, read);
+			}
+			String charset = EntityUtils.getContentCharSet(entity);
+			return content.toString((charset != null) ? charset : DEFAULT_RESPONSE_CHARSET);
+		} finally {
+			in.close();
+		}
+	}
+	
 	/**
 	 * Fetch a JSON object property in a checked manner.
 	 * 
@@ -709,7 +1774,7 @@ public class GitHubDeployMojo extends AbstractMojo {
 		}
 		return null; //Never reached
 	}
-
+	
 	String getScmUrl() {
 		return this.scmUrl;
 	}
@@ -770,11 +1835,42 @@ public class GitHubDeployMojo extends AbstractMojo {
 	void setSettings(Settings settings) {
 		this.settings = settings;
 	}
-	HttpClient getHttpClient() {
+	/**
+	 * @return Shared HTTP client, created on first use with a connection pool
+	 * sized so that every repository can hold a connection to each host for
+	 * each concurrent request. Host names are resolved once per client.
+	 */
+	synchronized HttpClient getHttpClient() {
+		if (this.httpClient == null) {
+			int connections = Math.max(DEFAULT_MAX_PER_ROUTE, this.getRepositoryCount() * Math.max(1, this.concurrency));
+			this.getLog().debug(". Instantiating pooled HTTP client.");
+			if (this.getLog().isDebugEnabled()) {
+				this.getLog().debug("  $connections = " + connections);
+			}
+			ThreadSafeClientConnManager connectionManager = new ThreadSafeClientConnManager() {
+				@Override
+				protected ClientConnectionOperator createConnectionOperator(SchemeRegistry schemes) {
+					GitHubDeployMojo.this.connectionOperator = new CachingConnectionOperator(schemes);
+					return GitHubDeployMojo.this.connectionOperator;
+				}
+			};
+			connectionManager.setDefaultMaxPerRoute(connections);
+			connectionManager.setMaxTotal(connections * 2);
+			this.httpClient = new DefaultHttpClient(connectionManager);
+			this.ownsHttpClient = true;
+		}
 		return this.httpClient;
 	}
-	void setHttpClient(HttpClient httpClient) {
+	/**
+	 * @param httpClient HTTP client to use. It is not shut down by the mojo.
+	 */
+	synchronized void setHttpClient(HttpClient httpClient) {
 		this.httpClient = httpClient;
+		this.connectionOperator = null;
+		this.ownsHttpClient = false;
+	}
+	CachingConnectionOperator getConnectionOperator() {
+		return this.connectionOperator;
 	}
 	List<String> getIgnoreTypes() {
 		return ignoreTypes;
@@ -794,22 +1890,132 @@ public class GitHubDeployMojo extends AbstractMojo {
 	void setAttachedArtifacts(List<Artifact> attachedArtifacts) {
 		this.attachedArtifacts = attachedArtifacts;
 	}
-	String getRepo() {
-		return repo;
+	boolean isVerify() {
+		return this.verify;
+	}
+	void setVerify(boolean verify) {
+		this.verify = verify;
+	}
+	boolean isRequireSignatures() {
+		return this.requireSignatures;
+	}
+	void setRequireSignatures(boolean requireSignatures) {
+		this.requireSignatures = requireSignatures;
+	}
+	List<String> getListeners() {
+		return this.listeners;
+	}
+	void setListeners(List<String> listeners) {
+		this.listeners = listeners;
+	}
+	/**
+	 * Register a listener instance in addition to the configured listeners.
+	 * 
+	 * @param listener Listener to register.
+	 */
+	void addListener(DeployListener listener) {
+		this.extraListeners.add(listener);
+	}
+	boolean isDedupe() {
+		return this.dedupe;
+	}
+	void setDedupe(boolean dedupe) {
+		this.dedupe = dedupe;
+	}
+	boolean isWarmUp() {
+		return this.warmUp;
+	}
+	void setWarmUp(boolean warmUp) {
+		this.warmUp = warmUp;
+	}
+	ConnectionWarmer getWarmer() {
+		return this.warmer;
+	}
+	List<String> getUploadOrder() {
+		return this.uploadOrder;
+	}
+	void setUploadOrder(List<String> uploadOrder) {
+		this.uploadOrder = uploadOrder;
+	}
+	synchronized String getFirstAvailable() {
+		return this.firstAvailable;
+	}
+	synchronized long getFirstAvailableMillis() {
+		return this.firstAvailableMillis;
+	}
+	int getConcurrency() {
+		return concurrency;
+	}
+	void setConcurrency(int concurrency) {
+		this.concurrency = concurrency;
+	}
+	int getUploadBufferCount() {
+		return uploadBufferCount;
+	}
+	void setUploadBufferCount(int uploadBufferCount) {
+		this.uploadBufferCount = uploadBufferCount;
+	}
+	int getUploadBufferSize() {
+		return uploadBufferSize;
+	}
+	void setUploadBufferSize(int uploadBufferSize) {
+		this.uploadBufferSize = uploadBufferSize;
+	}
+	long getMaxResponseSize() {
+		return maxResponseSize;
+	}
+	void setMaxResponseSize(long maxResponseSize) {
+		this.maxResponseSize = maxResponseSize;
+	}
+	BufferPool getBufferPool() {
+		return bufferPool;
+	}
+	boolean isDelta() {
+		return delta;
+	}
+	void setDelta(boolean delta) {
+		this.delta = delta;
+	}
+	File getDeltaIndexDirectory() {
+		return deltaIndexDirectory;
+	}
+	void setDeltaIndexDirectory(File deltaIndexDirectory) {
+		this.deltaIndexDirectory = deltaIndexDirectory;
+	}
+	int getDeltaBlockSize() {
+		return deltaBlockSize;
+	}
+	void setDeltaBlockSize(int deltaBlockSize) {
+		this.deltaBlockSize = deltaBlockSize;
+	}
+	AdaptiveLimiter getLimiter() {
+		return limiter;
+	}
+	void setLimiter(AdaptiveLimiter limiter) {
+		this.limiter = limiter;
+	}
+	String getBaseUrl() {
+		return baseUrl;
+	}
+	void setBaseUrl(String baseUrl) {
+		this.baseUrl = baseUrl;
+	}
+	String getDeployUrl() {
+		return deployUrl;
 	}
-	void setRepo(String repo) {
-		this.repo = repo;
+	void setDeployUrl(String deployUrl) {
+		this.deployUrl = deployUrl;
 	}
-	String getAuthToken() {
-		return authToken;
+	List<String> getRepositories() {
+		return repositories;
 	}
-	void setAuthToken(String authToken) {
-		this.authToken = authToken;
+	void setRepositories(List<String> repositories) {
+		this.repositories = repositories;
 	}
-	Map<String, GitHubDownload> getExistingDownloads() {
-		return existingDownloads;
+	List<GitHubRepository> getTargets() {
+		return targets;
 	}
-	void setExistingDownloads(Map<String, GitHubDownload> existingDownloads) {
-		this.existingDownloads = existingDownloads;
+	void setTargets(List<GitHubRepository> targets) {
+		this.targets = targets;
 	}
 }
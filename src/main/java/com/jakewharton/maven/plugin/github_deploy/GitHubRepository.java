@@ -0,0 +1,73 @@
+package com.jakewharton.maven.plugin.github_deploy;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Pattern;
+
+/**
+ * Simple POJO for representing a target GitHub repository and the state
+ * loaded for it during a deployment.
+ * 
+ * @author Jake Wharton <jakewharton@gmail.com>
+ */
+class GitHubRepository {
+	/** Repository seperator between owner and name. */
+	static final String SEPERATOR = "/";
+	/** Regular expression to locate existing download entries. */
+	private static final String REGEX_DOWNLOADS = "<a href=\"(/%1$s/downloads/([0-9]+))\"(?:.*?)<a href=\"(/downloads/%1$s/(.*?))\">(.*?)</a>";
+	/** Compiled download entry patterns shared by every execution, keyed by repository. */
+	private static final ConcurrentMap<String, Pattern> DOWNLOADS_PATTERNS = new ConcurrentHashMap<String, Pattern>();
+	
+	private final String owner;
+	private final String name;
+	private String authToken;
+	private DownloadIndex existingDownloads;
+	
+	GitHubRepository(String owner, String name) {
+		this.owner = owner;
+		this.name = name;
+	}
+	
+	public String getOwner() {
+		return this.owner;
+	}
+	public String getName() {
+		return this.name;
+	}
+	/**
+	 * @return Repository string in the format "owner/name".
+	 */
+	public String getRepo() {
+		return this.owner + SEPERATOR + this.name;
+	}
+	/**
+	 * @return Pattern which locates existing download entries for this
+	 * repository. Compiled once per repository and session.
+	 */
+	public Pattern getDownloadsPattern() {
+		String repo = this.getRepo();
+		Pattern pattern = DOWNLOADS_PATTERNS.get(repo);
+		if (pattern == null) {
+			pattern = Pattern.compile(String.format(REGEX_DOWNLOADS, Pattern.quote(repo)), Pattern.DOTALL);
+			DOWNLOADS_PATTERNS.putIfAbsent(repo, pattern);
+		}
+		return pattern;
+	}
+	public String getAuthToken() {
+		return this.authToken;
+	}
+	public void setAuthToken(String authToken) {
+		this.authToken = authToken;
+	}
+	public DownloadIndex getExistingDownloads() {
+		return this.existingDownloads;
+	}
+	public void setExistingDownloads(DownloadIndex existingDownloads) {
+		this.existingDownloads = existingDownloads;
+	}
+	
+	@Override
+	public String toString() {
+		return this.getRepo();
+	}
+}
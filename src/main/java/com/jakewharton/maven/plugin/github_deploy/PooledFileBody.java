@@ -0,0 +1,126 @@
+package com.jakewharton.maven.plugin.github_deploy;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import org.apache.http.entity.mime.MIME;
+import org.apache.http.entity.mime.content.AbstractContentBody;
+
+/**
+ * Multipart file body which streams the file through buffers borrowed from a
+ * shared {@link BufferPool}. A buffer is held only while a single chunk is
+ * read and written, so concurrent uploads share the pool fairly and block
+ * when it is exhausted.
+ * <p>
+ * The body declares the length the file had when it was selected for
+ * deployment, and writing fails if the file no longer has that length.
+ * 
+ * @author Jake Wharton <jakewharton@gmail.com>
+ */
+class PooledFileBody extends AbstractContentBody {
+	private final File file;
+	private final long length;
+	private final BufferPool pool;
+	private final Progress progress;
+	
+	PooledFileBody(File file, String mimeType, BufferPool pool) {
+		this(file, file.length(), mimeType, pool, null);
+	}
+	
+	/**
+	 * @param file File to upload.
+	 * @param length Expected length of the file.
+	 * @param mimeType MIME type of the file.
+	 * @param pool Pool from which to borrow buffers.
+	 * @param progress Callback notified of each chunk, or <code>null</code>.
+	 */
+	PooledFileBody(File file, long length, String mimeType, BufferPool pool, Progress progress) {
+		super(mimeType);
+		this.file = file;
+		this.length = length;
+		this.pool = pool;
+		this.progress = progress;
+	}
+	
+	@Override
+	public String getFilename() {
+		return this.file.getName();
+	}
+	
+	@Override
+	public String getCharset() {
+		return null;
+	}
+	
+	@Override
+	public String getTransferEncoding() {
+		return MIME.ENC_BINARY;
+	}
+	
+	@Override
+	public long getContentLength() {
+		return this.length;
+	}
+	
+	@Override
+	public void writeTo(OutputStream out) throws IOException {
+		WritableByteChannel target = Channels.newChannel(out);
+		FileInputStream in = new FileInputStream(this.file);
+		try {
+			FileChannel source = in.getChannel();
+			long written = 0;
+			while (true) {
+				ByteBuffer buffer = this.acquire();
+				try {
+					if (source.read(buffer) == -1) {
+						break;
+					}
+					buffer.flip();
+					while (buffer.hasRemaining()) {
+						written += target.write(buffer);
+					}
+				} finally {
+					this.pool.release(buffer);
+				}
+				if (written > this.length) {
+					throw new IOException(String.format(GitHubDeployMojo.ERROR_VERIFY_SIZE, this.length, source.size()));
+				}
+				if (this.progress != null) {
+					this.progress.onProgress(written, this.length);
+				}
+			}
+			if (written != this.length) {
+				throw new IOException(String.format(GitHubDeployMojo.ERROR_VERIFY_SIZE, this.length, written));
+			}
+			out.flush();
+		} finally {
+			in.close();
+		}
+	}
+	
+	private ByteBuffer acquire() throws InterruptedIOException {
+		try {
+			return this.pool.acquire();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException();
+		}
+	}
+	
+	File getFile() {
+		return this.file;
+	}
+	
+	/**
+	 * Callback notified after each chunk of the file is written.
+	 */
+	interface Progress {
+		void onProgress(long written, long total);
+	}
+}
@@ -0,0 +1,105 @@
+package com.jakewharton.maven.plugin.github_deploy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import org.apache.maven.artifact.Artifact;
+
+/**
+ * Orders artifacts for upload by a list of priority rules so the artifacts
+ * most likely to be needed become available first. Rules are applied in
+ * order, each only breaking ties left by the rules before it. Artifacts which
+ * tie on every rule are ordered by file name.
+ * <p>
+ * Supported rules:
+ * <ul>
+ * <li><code>primary</code> - The project's packaged artifact first.</li>
+ * <li><code>type:&lt;type&gt;</code> - Artifacts of the type first.</li>
+ * <li><code>classifier:&lt;classifier&gt;</code> - Artifacts with the
+ * classifier first.</li>
+ * <li><code>smallest</code> - Smallest artifacts first (shortest job
+ * first).</li>
+ * <li><code>largest</code> - Largest artifacts first.</li>
+ * </ul>
+ * 
+ * @author Jake Wharton <jakewharton@gmail.com>
+ */
+class UploadScheduler implements Comparator<Artifact> {
+	static final String RULE_PRIMARY = "primary";
+	static final String RULE_TYPE = "type:";
+	static final String RULE_CLASSIFIER = "classifier:";
+	static final String RULE_SMALLEST = "smallest";
+	static final String RULE_LARGEST = "largest";
+	/** Rules used when none are configured. */
+	static final List<String> DEFAULT_RULES = Arrays.asList(RULE_PRIMARY, RULE_SMALLEST);
+	
+	private final List<String> rules = new ArrayList<String>();
+	private final Artifact primary;
+	
+	/**
+	 * @param rules Priority rules, highest first.
+	 * @param primary Project's packaged artifact.
+	 * @throws IllegalArgumentException If a rule is not recognized.
+	 */
+	UploadScheduler(List<String> rules, Artifact primary) {
+		for (String rule : rules) {
+			rule = rule.trim();
+			if (!rule.equals(RULE_PRIMARY) && !rule.equals(RULE_SMALLEST) && !rule.equals(RULE_LARGEST)
+				&& !(rule.startsWith(RULE_TYPE) && (rule.length() > RULE_TYPE.length()))
+				&& !(rule.startsWith(RULE_CLASSIFIER) && (rule.length() > RULE_CLASSIFIER.length()))) {
+				throw new IllegalArgumentException(rule);
+			}
+			this.rules.add(rule);
+		}
+		this.primary = primary;
+	}
+	
+	/**
+	 * Order artifacts for upload.
+	 * 
+	 * @param artifacts Artifacts to order.
+	 * @return New list of the artifacts, highest priority first.
+	 */
+	List<Artifact> schedule(Collection<Artifact> artifacts) {
+		List<Artifact> ordered = new ArrayList<Artifact>(artifacts);
+		Collections.sort(ordered, this);
+		return ordered;
+	}
+	
+	@Override
+	public int compare(Artifact a, Artifact b) {
+		for (String rule : this.rules) {
+			int result;
+			if (rule.equals(RULE_PRIMARY)) {
+				result = first(a == this.primary, b == this.primary);
+			} else if (rule.equals(RULE_SMALLEST)) {
+				result = compareLengths(a, b);
+			} else if (rule.equals(RULE_LARGEST)) {
+				result = compareLengths(b, a);
+			} else if (rule.startsWith(RULE_TYPE)) {
+				String type = rule.substring(RULE_TYPE.length());
+				result = first(type.equals(a.getType()), type.equals(b.getType()));
+			} else {
+				String classifier = rule.substring(RULE_CLASSIFIER.length());
+				result = first(classifier.equals(a.getClassifier()), classifier.equals(b.getClassifier()));
+			}
+			if (result != 0) {
+				return result;
+			}
+		}
+		return a.getFile().getName().compareTo(b.getFile().getName());
+	}
+	
+	private static int first(boolean a, boolean b) {
+		return (a == b) ? 0 : (a ? -1 : 1);
+	}
+	
+	private static int compareLengths(Artifact a, Artifact b) {
+		long lengthA = a.getFile().length();
+		long lengthB = b.getFile().length();
+		return (lengthA < lengthB) ? -1 : ((lengthA == lengthB) ? 0 : 1);
+	}
+}
@@ -0,0 +1,98 @@
+package com.jakewharton.maven.plugin.github_deploy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+/**
+ * Tests for {@link AdaptiveLimiter}.
+ * 
+ * @author Jake Wharton <jakewharton@gmail.com>
+ */
+public class AdaptiveLimiterTest extends TestCase {
+	/**
+	 * Check the limit grows by one per success until the first back off.
+	 */
+	public void test_slowStart() throws InterruptedException {
+		AdaptiveLimiter limiter = new AdaptiveLimiter(8);
+		Assert.assertEquals(1, limiter.getLimit());
+		for (int i = 0; i < 3; i++) {
+			limiter.release(limiter.acquire(), 0, 200);
+		}
+		Assert.assertEquals(4, limiter.getLimit());
+		for (int i = 0; i < 10; i++) {
+			limiter.release(limiter.acquire(), 0, 200);
+		}
+		Assert.assertEquals(8, limiter.getLimit());
+	}
+	
+	/**
+	 * Check throttle responses halve the limit once per round of requests.
+	 */
+	public void test_throttleBackoff() throws InterruptedException {
+		AdaptiveLimiter limiter = new AdaptiveLimiter(8);
+		for (int i = 0; i < 7; i++) {
+			limiter.release(limiter.acquire(), 0, 200);
+		}
+		Assert.assertEquals(8, limiter.getLimit());
+		
+		//Two requests in flight during the same round are throttled
+		long first = limiter.acquire();
+		long second = limiter.acquire();
+		limiter.release(first, 0, 503);
+		limiter.release(second, 0, 429);
+		Assert.assertEquals(4, limiter.getLimit());
+		Assert.assertEquals(2, limiter.getThrottled());
+		Assert.assertEquals(1, limiter.getDecreases());
+		
+		limiter.release(limiter.acquire(), 0, AdaptiveLimiter.STATUS_NONE);
+		Assert.assertEquals(2, limiter.getLimit());
+		limiter.release(limiter.acquire(), 0, 500);
+		limiter.release(limiter.acquire(), 0, 500);
+		Assert.assertEquals(1, limiter.getLimit());
+	}
+	
+	/**
+	 * Check waiting requests are admitted in queue order regardless of the
+	 * order in which they start waiting, skipping interrupted requests.
+	 */
+	public void test_fifoAdmission() throws InterruptedException {
+		final AdaptiveLimiter limiter = new AdaptiveLimiter(1);
+		long first = limiter.acquire();
+		
+		final List<Integer> admitted = Collections.synchronizedList(new ArrayList<Integer>());
+		Thread[] threads = new Thread[5];
+		long[] tickets = new long[threads.length];
+		for (int i = 0; i < threads.length; i++) {
+			tickets[i] = limiter.enqueue();
+		}
+		for (int i = threads.length - 1; i >= 0; i--) {
+			final int index = i;
+			final long ticket = tickets[i];
+			threads[i] = new Thread() {
+				@Override
+				public void run() {
+					try {
+						long start = limiter.admit(ticket);
+						admitted.add(index);
+						limiter.release(start, 0, 200);
+					} catch (InterruptedException e) {
+						//Ticket given up
+					}
+				}
+			};
+			threads[i].start();
+		}
+		threads[2].interrupt();
+		threads[2].join();
+		
+		limiter.release(first, 0, 200);
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		Assert.assertEquals(Arrays.asList(0, 1, 3, 4), admitted);
+	}
+}
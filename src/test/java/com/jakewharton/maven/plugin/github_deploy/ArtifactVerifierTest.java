@@ -0,0 +1,111 @@
+package com.jakewharton.maven.plugin.github_deploy;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+/**
+ * Tests for {@link ArtifactVerifier}.
+ * 
+ * @author Jake Wharton <jakewharton@gmail.com>
+ */
+public class ArtifactVerifierTest extends TestCase {
+	private File directory;
+	private File jar;
+	
+	@Override
+	protected void setUp() throws Exception {
+		this.directory = File.createTempFile("github-deploy", "");
+		this.directory.delete();
+		this.directory.mkdirs();
+		this.jar = new File(this.directory, "project-1.0.jar");
+		writeJar(this.jar, 20);
+	}
+	
+	@Override
+	protected void tearDown() throws Exception {
+		for (File file : this.directory.listFiles()) {
+			file.delete();
+		}
+		this.directory.delete();
+	}
+	
+	/**
+	 * Check an intact archive passes and its entries are read.
+	 */
+	public void test_validArchive() throws IOException {
+		Assert.assertEquals(20, ArtifactVerifier.checkArchive(this.jar));
+		new ArtifactVerifier(Collections.singletonList(this.jar), false).verify(this.jar, this.jar.length());
+	}
+	
+	/**
+	 * Check a truncated archive and a changed size fail.
+	 */
+	public void test_truncatedArchive() throws IOException {
+		ArtifactVerifier verifier = new ArtifactVerifier(Collections.singletonList(this.jar), false);
+		try {
+			verifier.verify(this.jar, this.jar.length() + 1);
+			Assert.fail();
+		} catch (IOException e) {
+			//Expected
+		}
+		
+		truncate(this.jar);
+		try {
+			verifier.verify(this.jar, this.jar.length());
+			Assert.fail();
+		} catch (IOException e) {
+			//Expected
+		}
+	}
+	
+	/**
+	 * Check required signatures are found among the artifacts or alongside
+	 * the artifact.
+	 */
+	public void test_signatures() throws IOException {
+		File signature = new File(this.directory, this.jar.getName() + ArtifactVerifier.SIGNATURE_EXTENSION);
+		try {
+			new ArtifactVerifier(Collections.singletonList(this.jar), true).verify(this.jar, this.jar.length());
+			Assert.fail();
+		} catch (IOException e) {
+			//Expected
+		}
+		
+		new ArtifactVerifier(Arrays.asList(this.jar, new File("elsewhere", signature.getName())), true).verify(this.jar, this.jar.length());
+		
+		new FileOutputStream(signature).close();
+		new ArtifactVerifier(Collections.singletonList(this.jar), true).verify(this.jar, this.jar.length());
+		new ArtifactVerifier(Collections.singletonList(signature), true).verify(signature, 0);
+	}
+	
+	static void writeJar(File file, int entries) throws IOException {
+		ZipOutputStream out = new ZipOutputStream(new FileOutputStream(file));
+		try {
+			byte[] content = new byte[1024];
+			for (int i = 0; i < entries; i++) {
+				out.putNextEntry(new ZipEntry("entry-" + i + ".class"));
+				out.write(content);
+				out.closeEntry();
+			}
+		} finally {
+			out.close();
+		}
+	}
+	
+	static void truncate(File file) throws IOException {
+		RandomAccessFile access = new RandomAccessFile(file, "rw");
+		try {
+			access.setLength(access.length() / 2);
+		} finally {
+			access.close();
+		}
+	}
+}
@@ -0,0 +1,112 @@
+package com.jakewharton.maven.plugin.github_deploy;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+/**
+ * Tests for {@link BlockIndex}.
+ * 
+ * @author Jake Wharton <jakewharton@gmail.com>
+ */
+public class BlockIndexTest extends TestCase {
+	private static final int BLOCK_SIZE = 1024;
+	
+	private File original;
+	private File modified;
+	private File index;
+	
+	@Override
+	protected void setUp() throws Exception {
+		this.original = File.createTempFile("github-deploy", ".zip");
+		this.modified = File.createTempFile("github-deploy", ".zip");
+		this.index = File.createTempFile("github-deploy", ".idx");
+	}
+	
+	@Override
+	protected void tearDown() throws Exception {
+		this.original.delete();
+		this.modified.delete();
+		this.index.delete();
+	}
+	
+	/**
+	 * Check an unchanged file matches every block of its own index.
+	 */
+	public void test_unchanged() throws IOException {
+		byte[] content = randomBytes(10 * BLOCK_SIZE + 123);
+		write(this.original, content);
+		
+		BlockIndex previous = BlockIndex.build(this.original, BLOCK_SIZE);
+		Assert.assertEquals(11, previous.getBlockCount());
+		
+		BlockIndex.Delta delta = previous.diff(this.original, BLOCK_SIZE);
+		Assert.assertEquals(0, delta.getChanged());
+		Assert.assertEquals(11, delta.getMatchedBlocks());
+		Assert.assertEquals(content.length, delta.getIndex().getLength());
+	}
+	
+	/**
+	 * Check bytes inserted and changed in the middle of a file only account
+	 * for the blocks they touch.
+	 */
+	public void test_insertedAndChanged() throws IOException {
+		byte[] content = randomBytes(20 * BLOCK_SIZE);
+		write(this.original, content);
+		
+		//Insert 10 bytes at the start of block 5 and change one byte in block 12
+		byte[] changed = new byte[content.length + 10];
+		System.arraycopy(content, 0, changed, 0, 5 * BLOCK_SIZE);
+		System.arraycopy(content, 5 * BLOCK_SIZE, changed, 5 * BLOCK_SIZE + 10, content.length - 5 * BLOCK_SIZE);
+		changed[12 * BLOCK_SIZE + 100] ^= 0xff;
+		write(this.modified, changed);
+		
+		BlockIndex.Delta delta = BlockIndex.build(this.original, BLOCK_SIZE).diff(this.modified, BLOCK_SIZE);
+		Assert.assertEquals(19, delta.getMatchedBlocks());
+		Assert.assertEquals(BLOCK_SIZE + 10, delta.getChanged());
+	}
+	
+	/**
+	 * Check the index computed during a comparison survives a write and read
+	 * and matches a directly built index.
+	 */
+	public void test_writeRead() throws IOException {
+		write(this.original, randomBytes(3 * BLOCK_SIZE + 7));
+		
+		BlockIndex built = BlockIndex.build(this.original, BLOCK_SIZE);
+		built.diff(this.original, BLOCK_SIZE).getIndex().write(this.index);
+		BlockIndex read = BlockIndex.read(this.index);
+		
+		Assert.assertEquals(built.getBlockSize(), read.getBlockSize());
+		Assert.assertEquals(built.getLength(), read.getLength());
+		Assert.assertEquals(built.getBlockCount(), read.getBlockCount());
+		Assert.assertEquals(0, read.diff(this.original, BLOCK_SIZE).getChanged());
+	}
+	
+	/**
+	 * Check an index cannot be compared using a different block size.
+	 */
+	public void test_blockSizeChanged() throws IOException {
+		write(this.original, randomBytes(3 * BLOCK_SIZE));
+		
+		Assert.assertNull(BlockIndex.build(this.original, BLOCK_SIZE).diff(this.original, 2 * BLOCK_SIZE));
+	}
+	
+	private static byte[] randomBytes(int length) {
+		byte[] bytes = new byte[length];
+		new Random(length).nextBytes(bytes);
+		return bytes;
+	}
+	
+	private static void write(File file, byte[] content) throws IOException {
+		FileOutputStream out = new FileOutputStream(file);
+		try {
+			out.write(content);
+		} finally {
+			out.close();
+		}
+	}
+}
@@ -0,0 +1,103 @@
+package com.jakewharton.maven.plugin.github_deploy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+/**
+ * Tests for {@link BufferPool} and {@link PooledFileBody}.
+ * 
+ * @author Jake Wharton <jakewharton@gmail.com>
+ */
+public class BufferPoolTest extends TestCase {
+	/**
+	 * Check a file body streamed through a pool smaller than the file is
+	 * written in full and every buffer is returned.
+	 */
+	public void test_pooledFileBody() throws Exception {
+		byte[] content = new byte[1000];
+		for (int i = 0; i < content.length; i++) {
+			content[i] = (byte)i;
+		}
+		File file = File.createTempFile("github-deploy", ".jar");
+		try {
+			FileOutputStream out = new FileOutputStream(file);
+			out.write(content);
+			out.close();
+			
+			BufferPool pool = new BufferPool(2, 7);
+			PooledFileBody body = new PooledFileBody(file, "application/octet-stream", pool);
+			ByteArrayOutputStream written = new ByteArrayOutputStream();
+			body.writeTo(written);
+			
+			Assert.assertEquals(content.length, body.getContentLength());
+			Assert.assertTrue(Arrays.equals(content, written.toByteArray()));
+			Assert.assertEquals(2, pool.getAvailable());
+		} finally {
+			file.delete();
+		}
+	}
+	
+	/**
+	 * Check a file body fails if the file is shorter or longer than the length
+	 * it declares, and every buffer is still returned.
+	 */
+	public void test_pooledFileBodyLengthChanged() throws Exception {
+		File file = File.createTempFile("github-deploy", ".jar");
+		try {
+			FileOutputStream out = new FileOutputStream(file);
+			out.write(new byte[100]);
+			out.close();
+			
+			BufferPool pool = new BufferPool(2, 7);
+			for (long length : new long[] { 50, 150 }) {
+				PooledFileBody body = new PooledFileBody(file, length, "application/octet-stream", pool, null);
+				Assert.assertEquals(length, body.getContentLength());
+				try {
+					body.writeTo(new ByteArrayOutputStream());
+					Assert.fail();
+				} catch (IOException e) {
+					//Expected
+				}
+				Assert.assertEquals(2, pool.getAvailable());
+			}
+		} finally {
+			file.delete();
+		}
+	}
+	
+	/**
+	 * Check acquiring from an empty pool blocks until a buffer is released.
+	 */
+	public void test_acquireBlocksWhenEmpty() throws Exception {
+		final BufferPool pool = new BufferPool(1, 16);
+		Assert.assertEquals(16, pool.getCapacity());
+		ByteBuffer held = pool.acquire();
+		
+		final CountDownLatch acquired = new CountDownLatch(1);
+		final AtomicReference<ByteBuffer> waiter = new AtomicReference<ByteBuffer>();
+		Thread thread = new Thread() {
+			@Override
+			public void run() {
+				try {
+					waiter.set(pool.acquire());
+					acquired.countDown();
+				} catch (InterruptedException e) {}
+			}
+		};
+		thread.start();
+		
+		Assert.assertFalse(acquired.await(100, TimeUnit.MILLISECONDS));
+		pool.release(held);
+		Assert.assertTrue(acquired.await(5, TimeUnit.SECONDS));
+		Assert.assertSame(held, waiter.get());
+	}
+}
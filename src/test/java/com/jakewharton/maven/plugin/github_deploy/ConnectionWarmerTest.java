@@ -0,0 +1,77 @@
+package com.jakewharton.maven.plugin.github_deploy;
+
+import java.util.Arrays;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.tsccm.ThreadSafeClientConnManager;
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+/**
+ * Tests for {@link ConnectionWarmer} and {@link CachingConnectionOperator}.
+ * 
+ * @author Jake Wharton <jakewharton@gmail.com>
+ */
+public class ConnectionWarmerTest extends TestCase {
+	private FakeGitHubServer server;
+	
+	@Override
+	protected void setUp() throws Exception {
+		this.server = new FakeGitHubServer();
+		this.server.start();
+	}
+	
+	@Override
+	protected void tearDown() throws Exception {
+		this.server.stop();
+	}
+	
+	/**
+	 * Check URLs on the same host share warm-up connections, which are left
+	 * open in the pool, and that the host is only resolved once.
+	 */
+	public void test_primesPool() throws Exception {
+		GitHubDeployMojo mojo = this.server.newMojo("owner/warm");
+		mojo.setConcurrency(2);
+		ThreadSafeClientConnManager connections = (ThreadSafeClientConnManager)mojo.getHttpClient().getConnectionManager();
+		CachingConnectionOperator operator = mojo.getConnectionOperator();
+		try {
+			ConnectionWarmer warmer = new ConnectionWarmer(mojo.getHttpClient(), operator, Arrays.asList(this.server.getBaseUrl(), this.server.getDeployUrl()), 2);
+			warmer.start();
+			while (!warmer.isFinished()) {
+				Thread.sleep(5);
+			}
+			
+			Assert.assertEquals(1, warmer.getHosts());
+			Assert.assertEquals(2, warmer.getPrimed());
+			Assert.assertTrue(connections.getConnectionsInPool() >= 1);
+			Assert.assertEquals(1, operator.getMisses());
+			Assert.assertTrue(operator.getHits() > 0);
+			
+			//All of a warm-up which finished before the first request is hidden
+			warmer.markRequest();
+			Assert.assertEquals(warmer.getDurationMillis(), warmer.getHiddenMillis());
+		} finally {
+			connections.shutdown();
+		}
+	}
+	
+	/**
+	 * Check a warm-up stopped while its connections are being scheduled
+	 * still finishes.
+	 */
+	public void test_stopFinishes() throws Exception {
+		ThreadSafeClientConnManager connections = new ThreadSafeClientConnManager();
+		try {
+			ConnectionWarmer warmer = new ConnectionWarmer(new DefaultHttpClient(connections), null, Arrays.asList(this.server.getBaseUrl()), 8);
+			warmer.start();
+			warmer.stop();
+			long deadline = System.currentTimeMillis() + 5000;
+			while (!warmer.isFinished() && (System.currentTimeMillis() < deadline)) {
+				Thread.sleep(5);
+			}
+			Assert.assertTrue(warmer.isFinished());
+		} finally {
+			connections.shutdown();
+		}
+	}
+}
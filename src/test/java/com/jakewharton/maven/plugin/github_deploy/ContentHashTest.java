@@ -0,0 +1,64 @@
+package com.jakewharton.maven.plugin.github_deploy;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+/**
+ * Tests for {@link ContentHash}.
+ * 
+ * @author Jake Wharton <jakewharton@gmail.com>
+ */
+public class ContentHashTest extends TestCase {
+	private File directory;
+	private File jar;
+	private File copy;
+	private File other;
+	
+	@Override
+	protected void setUp() throws Exception {
+		this.directory = File.createTempFile("github-deploy", "");
+		this.directory.delete();
+		this.directory.mkdirs();
+		this.jar = new File(this.directory, "project-1.0.jar");
+		this.copy = new File(this.directory, "project-1.0-shaded.jar");
+		this.other = new File(this.directory, "project-1.0-sources.jar");
+		write(this.jar, 1);
+		write(this.copy, 1);
+		write(this.other, 2);
+	}
+	
+	@Override
+	protected void tearDown() throws Exception {
+		for (File file : this.directory.listFiles()) {
+			file.delete();
+		}
+		this.directory.delete();
+	}
+	
+	/**
+	 * Check identical contents hash equally regardless of name and different
+	 * contents of the same size do not.
+	 */
+	public void test_hash() throws IOException {
+		String hash = ContentHash.of(this.jar);
+		Assert.assertEquals(64, hash.length());
+		Assert.assertEquals(hash, ContentHash.of(this.copy));
+		Assert.assertFalse(hash.equals(ContentHash.of(this.other)));
+	}
+	
+	private static void write(File file, int value) throws IOException {
+		byte[] content = new byte[4096];
+		for (int i = 0; i < content.length; i++) {
+			content[i] = (byte)(i * value);
+		}
+		FileOutputStream out = new FileOutputStream(file);
+		try {
+			out.write(content);
+		} finally {
+			out.close();
+		}
+	}
+}
@@ -0,0 +1,69 @@
+package com.jakewharton.maven.plugin.github_deploy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+/**
+ * Tests for {@link DownloadIndex}.
+ * 
+ * @author Jake Wharton <jakewharton@gmail.com>
+ */
+public class DownloadIndexTest extends TestCase {
+	/**
+	 * Check every added name is found with its ID and absent names are not,
+	 * including names sharing long prefixes and non-ASCII names.
+	 */
+	public void test_lookup() {
+		List<String> names = new ArrayList<String>();
+		for (int i = 0; i < 1000; i++) {
+			names.add(String.format("project-1.0.%s-javadoc.jar", i));
+		}
+		names.add("");
+		names.add("über-中文.zip");
+		Collections.shuffle(names, new Random(1));
+		
+		DownloadIndex.Builder builder = new DownloadIndex.Builder();
+		for (int i = 0; i < names.size(); i++) {
+			builder.add(names.get(i), i);
+		}
+		DownloadIndex index = builder.build();
+		
+		Assert.assertEquals(names.size(), index.size());
+		for (int i = 0; i < names.size(); i++) {
+			int position = index.indexOf(names.get(i));
+			Assert.assertTrue(position >= 0);
+			Assert.assertEquals(i, index.getId(position));
+			Assert.assertEquals(names.get(i), index.getFileName(position));
+		}
+		Assert.assertEquals(-1, index.indexOf("project-1.0.1000-javadoc.jar"));
+		Assert.assertEquals(-1, index.indexOf("project-1.0.5"));
+		Assert.assertEquals(-1, index.indexOf("a"));
+		Assert.assertEquals(-1, index.indexOf("zzz"));
+		Assert.assertEquals(-1, DownloadIndex.EMPTY.indexOf("project.jar"));
+		
+		//Shared prefixes are only stored at restart points
+		int uncompressed = 0;
+		for (String name : names) {
+			uncompressed += name.length();
+		}
+		Assert.assertTrue(index.getNamesSize() < uncompressed * 2 / 3);
+	}
+	
+	/**
+	 * Check the last ID wins when a file name is added more than once.
+	 */
+	public void test_duplicates() {
+		DownloadIndex index = new DownloadIndex.Builder()
+				.add("project.jar", 1)
+				.add("project.zip", 2)
+				.add("project.jar", 3)
+				.build();
+		Assert.assertEquals(2, index.size());
+		Assert.assertEquals(3, index.getId(index.indexOf("project.jar")));
+		Assert.assertEquals(2, index.getId(index.indexOf("project.zip")));
+	}
+}
@@ -0,0 +1,81 @@
+package com.jakewharton.maven.plugin.github_deploy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+/**
+ * Tests for {@link EventDispatcher}.
+ * 
+ * @author Jake Wharton <jakewharton@gmail.com>
+ */
+public class EventDispatcherTest extends TestCase {
+	/**
+	 * Check progress events are dropped while too many wait behind a slow
+	 * listener and other events are still delivered.
+	 */
+	public void test_progressBounded() throws Exception {
+		final CountDownLatch release = new CountDownLatch(1);
+		RecordingListener listener = new RecordingListener();
+		EventDispatcher dispatcher = new EventDispatcher(FakeGitHubServer.quietLog());
+		dispatcher.add(new DeployListener() {
+			@Override
+			public void onEvent(DeployEvent event) {
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		});
+		dispatcher.add(listener);
+		
+		dispatcher.dispatch(new DeployEvent.ReservationCompleted("owner/slow", "project.jar", 0));
+		for (int i = 1; i <= 1000; i++) {
+			dispatcher.dispatch(new DeployEvent.UploadProgress("owner/slow", "project.jar", i, 1000));
+		}
+		dispatcher.dispatch(new DeployEvent.UploadCompleted("owner/slow", "project.jar", 1000, 0));
+		release.countDown();
+		dispatcher.close();
+		
+		Assert.assertEquals(1, listener.count(DeployEvent.ReservationCompleted.class));
+		Assert.assertEquals(EventDispatcher.MAX_PENDING_PROGRESS, listener.count(DeployEvent.UploadProgress.class));
+		Assert.assertEquals(1, listener.count(DeployEvent.UploadCompleted.class));
+		
+		//Delivered progress events free room for more
+		dispatcher = new EventDispatcher(FakeGitHubServer.quietLog());
+		listener = new RecordingListener();
+		dispatcher.add(listener);
+		for (int i = 1; i <= 1000; i++) {
+			dispatcher.dispatch(new DeployEvent.UploadProgress("owner/fast", "project.jar", i, 1000));
+			if (i % EventDispatcher.MAX_PENDING_PROGRESS == 0) {
+				while (listener.count(DeployEvent.UploadProgress.class) < i) {
+					Thread.sleep(1);
+				}
+			}
+		}
+		dispatcher.close();
+		Assert.assertEquals(1000, listener.count(DeployEvent.UploadProgress.class));
+	}
+	
+	private static class RecordingListener implements DeployListener {
+		final List<DeployEvent> events = new ArrayList<DeployEvent>();
+		
+		@Override
+		public synchronized void onEvent(DeployEvent event) {
+			this.events.add(event);
+		}
+		
+		synchronized int count(Class<? extends DeployEvent> type) {
+			int count = 0;
+			for (DeployEvent event : this.events) {
+				if (type.isInstance(event)) {
+					count += 1;
+				}
+			}
+			return count;
+		}
+	}
+}
@@ -0,0 +1,402 @@
+package com.jakewharton.maven.plugin.github_deploy;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.artifact.versioning.VersionRange;
+import org.apache.maven.plugin.logging.Log;
+import org.apache.maven.plugin.logging.SystemStreamLog;
+import org.apache.maven.settings.Settings;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Local stand-in for the GitHub downloads pages and the S3 upload endpoint.
+ * <p>
+ * The server can simulate response latency with jitter, a shared bandwidth
+ * cap across all request bodies, throttling once more than a given number of
+ * requests are in flight, and a reproducible rate of server errors.
+ * 
+ * @author Jake Wharton <jakewharton@gmail.com>
+ */
+class FakeGitHubServer implements HttpHandler {
+	/** Path of the fake S3 upload endpoint. */
+	static final String DEPLOY_PATH = "/s3/";
+	/** Authentication token embedded in the downloads page. */
+	static final String AUTH_TOKEN = "0123456789abcdef";
+	
+	private static final Pattern PATH_DOWNLOADS = Pattern.compile("^/([^/]+/[^/]+)/downloads$");
+	private static final Pattern PATH_DELETE = Pattern.compile("^/([^/]+/[^/]+)/downloads/([0-9]+)$");
+	private static final Pattern BODY_FILE_NAME = Pattern.compile("file_name=([^&]*)");
+	private static final Pattern BODY_UPLOAD_KEY = Pattern.compile("name=\"key\"\r\n(?:[^\r\n]+\r\n)*\r\n([^\r\n]+)");
+	private static final int STATUS_THROTTLED = 503;
+	private static final int STATUS_ERROR = 500;
+	
+	private final HttpServer server;
+	private final ExecutorService executor = Executors.newCachedThreadPool();
+	private final AtomicLong nextId = new AtomicLong(1);
+	private final AtomicInteger inFlight = new AtomicInteger();
+	private final AtomicInteger peakInFlight = new AtomicInteger();
+	private final AtomicInteger throttled = new AtomicInteger();
+	private final AtomicInteger uploads = new AtomicInteger();
+	private final AtomicInteger deletes = new AtomicInteger();
+	private final AtomicInteger errors = new AtomicInteger();
+	private final Map<String, AtomicInteger> attempts = new ConcurrentHashMap<String, AtomicInteger>();
+	private final Map<String, Map<String, Long>> downloads = new ConcurrentHashMap<String, Map<String, Long>>();
+	
+	private volatile int throttleAbove = Integer.MAX_VALUE;
+	private volatile long bytesPerSecond = 0;
+	private volatile long latencyMillis = 0;
+	private volatile long latencyJitterMillis = 0;
+	private volatile double errorRate = 0;
+	private volatile long seed = 0;
+	private long bandwidthAvailableAt = System.nanoTime();
+	
+	FakeGitHubServer() throws IOException {
+		this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		this.server.createContext("/", this);
+		this.server.setExecutor(this.executor);
+	}
+	
+	void start() {
+		this.server.start();
+	}
+	
+	void stop() {
+		this.server.stop(0);
+		this.executor.shutdownNow();
+	}
+	
+	/**
+	 * @return Base URL to use in place of <code>https://github.com</code>.
+	 */
+	String getBaseUrl() {
+		return "http://127.0.0.1:" + this.server.getAddress().getPort();
+	}
+	
+	/**
+	 * @return URL to use in place of the S3 upload endpoint.
+	 */
+	String getDeployUrl() {
+		return this.getBaseUrl() + DEPLOY_PATH;
+	}
+	
+	/**
+	 * Create a mojo which deploys the given files to a repository on this
+	 * server. The first file is the project artifact and the remainder are
+	 * attached. Informational and debug logging is discarded. Verification is
+	 * disabled as test payloads are not real archives.
+	 */
+	GitHubDeployMojo newMojo(String repo, File... files) {
+		GitHubDeployMojo mojo = new GitHubDeployMojo();
+		mojo.setLog(quietLog());
+		mojo.setBaseUrl(this.getBaseUrl());
+		mojo.setDeployUrl(this.getDeployUrl());
+		mojo.setSettings(new Settings());
+		mojo.setGithubLogin("login");
+		mojo.setGithubToken("token");
+		mojo.setVerify(false);
+		mojo.setRepoOwner(repo.substring(0, repo.indexOf('/')));
+		mojo.setRepoName(repo.substring(repo.indexOf('/') + 1));
+		
+		List<Artifact> attached = new ArrayList<Artifact>();
+		for (int i = 0; i < files.length; i++) {
+			Artifact artifact = newArtifact(files[i], (i == 0) ? null : "classifier" + i);
+			if (i == 0) {
+				mojo.setArtifact(artifact);
+			} else {
+				attached.add(artifact);
+			}
+		}
+		mojo.setAttachedArtifacts(attached);
+		return mojo;
+	}
+	
+	/**
+	 * @return Log which discards every message. Failures are still reported
+	 * by the exceptions they throw.
+	 */
+	static Log quietLog() {
+		return new SystemStreamLog() {
+			@Override
+			public boolean isDebugEnabled() {
+				return false;
+			}
+			@Override
+			public void debug(CharSequence content) {}
+			@Override
+			public void info(CharSequence content) {}
+			@Override
+			public void warn(CharSequence content) {}
+			@Override
+			public void warn(CharSequence content, Throwable error) {}
+			@Override
+			public void error(CharSequence content) {}
+			@Override
+			public void error(CharSequence content, Throwable error) {}
+		};
+	}
+	
+	/**
+	 * Create a jar artifact backed by the given file.
+	 */
+	static Artifact newArtifact(File file, String classifier) {
+		Artifact artifact = new DefaultArtifact("com.example", "example", VersionRange.createFromVersion("1.0"), Artifact.SCOPE_COMPILE, "jar", classifier, new DefaultArtifactHandler("jar"));
+		artifact.setFile(file);
+		return artifact;
+	}
+	
+	/**
+	 * Respond with a throttling status when more than the given number of
+	 * requests are in flight.
+	 */
+	void setThrottleAbove(int throttleAbove) {
+		this.throttleAbove = throttleAbove;
+	}
+	
+	/**
+	 * Delay every response by a fixed amount.
+	 */
+	void setLatencyMillis(long latencyMillis) {
+		this.latencyMillis = latencyMillis;
+	}
+	
+	/**
+	 * Add up to the given amount of additional latency to every response. The
+	 * jitter for a request is derived from the seed and the request identity.
+	 */
+	void setLatencyJitterMillis(long latencyJitterMillis) {
+		this.latencyJitterMillis = latencyJitterMillis;
+	}
+	
+	/**
+	 * Respond with a server error to the given fraction of requests. Which
+	 * requests fail is derived from the seed and the request identity (method,
+	 * path, file and attempt) so that runs are reproducible regardless of the
+	 * order in which requests arrive.
+	 */
+	void setErrorRate(double errorRate) {
+		this.errorRate = errorRate;
+	}
+	
+	/**
+	 * Seed for latency jitter and error injection.
+	 */
+	void setSeed(long seed) {
+		this.seed = seed;
+	}
+	
+	/**
+	 * Cap the rate at which request bodies are read, shared across all
+	 * requests. Zero disables the cap.
+	 */
+	void setBytesPerSecond(long bytesPerSecond) {
+		this.bytesPerSecond = bytesPerSecond;
+	}
+	
+	/**
+	 * Add an existing download to a repository.
+	 */
+	void addDownload(String repo, String fileName) {
+		this.downloads(repo).put(fileName, this.nextId.getAndIncrement());
+	}
+	
+	Map<String, Long> downloads(String repo) {
+		Map<String, Long> repoDownloads = this.downloads.get(repo);
+		if (repoDownloads == null) {
+			synchronized (this.downloads) {
+				repoDownloads = this.downloads.get(repo);
+				if (repoDownloads == null) {
+					repoDownloads = new ConcurrentHashMap<String, Long>();
+					this.downloads.put(repo, repoDownloads);
+				}
+			}
+		}
+		return repoDownloads;
+	}
+	
+	int getPeakInFlight() {
+		return this.peakInFlight.get();
+	}
+	int getThrottled() {
+		return this.throttled.get();
+	}
+	int getUploads() {
+		return this.uploads.get();
+	}
+	int getDeletes() {
+		return this.deletes.get();
+	}
+	int getErrors() {
+		return this.errors.get();
+	}
+	
+	@Override
+	public void handle(HttpExchange exchange) throws IOException {
+		int current = this.inFlight.incrementAndGet();
+		try {
+			int peak;
+			while ((peak = this.peakInFlight.get()) < current && !this.peakInFlight.compareAndSet(peak, current)) {}
+			
+			String body = this.readBody(exchange.getRequestBody());
+			Random random = this.random(exchange, body);
+			long latency = this.latencyMillis + (long)(random.nextDouble() * this.latencyJitterMillis);
+			if (latency > 0) {
+				Thread.sleep(latency);
+			}
+			if (current > this.throttleAbove) {
+				this.throttled.incrementAndGet();
+				this.respond(exchange, STATUS_THROTTLED, "");
+				return;
+			}
+			if (random.nextDouble() < this.errorRate) {
+				this.errors.incrementAndGet();
+				this.respond(exchange, STATUS_ERROR, "");
+				return;
+			}
+			this.route(exchange, body);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			this.inFlight.decrementAndGet();
+			exchange.close();
+		}
+	}
+	
+	/**
+	 * @return Random source determined by the seed and the identity of the
+	 * request, independent of arrival order.
+	 */
+	private Random random(HttpExchange exchange, String body) {
+		StringBuilder key = new StringBuilder();
+		key.append(exchange.getRequestMethod()).append(' ').append(exchange.getRequestURI().getPath());
+		Matcher fileName = BODY_FILE_NAME.matcher(body);
+		Matcher uploadKey = BODY_UPLOAD_KEY.matcher(body);
+		if (fileName.find()) {
+			key.append(' ').append(fileName.group(1));
+		} else if (uploadKey.find()) {
+			key.append(' ').append(uploadKey.group(1));
+		}
+		
+		AtomicInteger attempt = this.attempts.get(key.toString());
+		if (attempt == null) {
+			synchronized (this.attempts) {
+				attempt = this.attempts.get(key.toString());
+				if (attempt == null) {
+					attempt = new AtomicInteger();
+					this.attempts.put(key.toString(), attempt);
+				}
+			}
+		}
+		key.append(" #").append(attempt.incrementAndGet());
+		return new Random(this.seed * 31 + key.toString().hashCode());
+	}
+	
+	private void route(HttpExchange exchange, String body) throws IOException {
+		String path = exchange.getRequestURI().getPath();
+		String method = exchange.getRequestMethod();
+		
+		if (path.equals(DEPLOY_PATH) && "POST".equals(method)) {
+			this.uploads.incrementAndGet();
+			this.respond(exchange, 201, "<PostResponse/>");
+			return;
+		}
+		
+		Matcher downloads = PATH_DOWNLOADS.matcher(path);
+		if (downloads.matches()) {
+			String repo = downloads.group(1);
+			if ("GET".equals(method)) {
+				this.respond(exchange, 200, this.downloadsPage(repo));
+			} else {
+				Matcher fileName = BODY_FILE_NAME.matcher(body);
+				fileName.find();
+				this.addDownload(repo, fileName.group(1));
+				this.respond(exchange, 200, "{\"prefix\":\"downloads/" + repo + "/\",\"policy\":\"p\",\"accesskeyid\":\"a\",\"signature\":\"s\",\"acl\":\"public-read\"}");
+			}
+			return;
+		}
+		
+		Matcher delete = PATH_DELETE.matcher(path);
+		if (delete.matches() && "POST".equals(method)) {
+			Long id = Long.valueOf(delete.group(2));
+			this.downloads(delete.group(1)).values().remove(id);
+			this.deletes.incrementAndGet();
+			exchange.getResponseHeaders().add("Location", this.getBaseUrl() + "/" + delete.group(1) + "/downloads");
+			this.respond(exchange, 302, "");
+			return;
+		}
+		
+		this.respond(exchange, 404, "");
+	}
+	
+	private String downloadsPage(String repo) {
+		StringBuilder page = new StringBuilder();
+		page.append("<html><head><script>window._auth_token = \"").append(AUTH_TOKEN).append("\"</script></head><body><ol>\n");
+		for (Map.Entry<String, Long> download : this.downloads(repo).entrySet()) {
+			page.append("<li><a href=\"/").append(repo).append("/downloads/").append(download.getValue()).append("\" class=\"delete\">x</a>")
+				.append("<h4><a href=\"/downloads/").append(repo).append('/').append(download.getKey()).append("\">")
+				.append(download.getKey()).append("</a></h4></li>\n");
+		}
+		page.append("</ol></body></html>");
+		return page.toString();
+	}
+	
+	private String readBody(InputStream in) throws IOException {
+		StringBuilder prefix = new StringBuilder();
+		byte[] buffer = new byte[8192];
+		int read;
+		while ((read = in.read(buffer)) != -1) {
+			this.consumeBandwidth(read);
+			if (prefix.length() < 1024) {
+				prefix.append(new String(buffer, 0, Math.min(read, 1024), "ISO-8859-1"));
+			}
+		}
+		return prefix.toString();
+	}
+	
+	private void consumeBandwidth(int bytes) {
+		long rate = this.bytesPerSecond;
+		if (rate <= 0) {
+			return;
+		}
+		long wait;
+		synchronized (this) {
+			long now = System.nanoTime();
+			long start = Math.max(now, this.bandwidthAvailableAt);
+			this.bandwidthAvailableAt = start + bytes * 1000000000L / rate;
+			wait = this.bandwidthAvailableAt - now;
+		}
+		try {
+			Thread.sleep(wait / 1000000, (int)(wait % 1000000));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+	
+	private void respond(HttpExchange exchange, int status, String body) throws IOException {
+		byte[] bytes = body.getBytes("UTF-8");
+		exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+		if (bytes.length > 0) {
+			OutputStream out = exchange.getResponseBody();
+			out.write(bytes);
+			out.close();
+		}
+	}
+}
@@ -0,0 +1,217 @@
+package com.jakewharton.maven.plugin.github_deploy;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.apache.maven.plugin.MojoFailureException;
+import junit.framework.Assert;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * Load test which drives many {@link GitHubDeployMojo} executions at once
+ * against a {@link FakeGitHubServer}, as happens when many CI pipelines deploy
+ * at the same time.
+ * <p>
+ * The test only runs when <code>loadtest</code> is set. Larger runs are
+ * configured with further system properties, for example:
+ * <pre>
+ * mvn test -Dtest=GitHubDeployLoadTest -Dloadtest=true -Dloadtest.deploys=500 -Dloadtest.parallel=200
+ * </pre>
+ * Latency jitter and error injection are derived from <code>loadtest.seed</code>
+ * and the identity of each request, so the same configuration injects the
+ * same failures on every run. The configuration and results are written to
+ * <code>target/load-test.properties</code> for comparison between releases.
+ * 
+ * @author Jake Wharton <jakewharton@gmail.com>
+ */
+public class GitHubDeployLoadTest extends TestCase {
+	private int deploys;
+	private int parallel;
+	private int artifacts;
+	private int artifactSize;
+	private int concurrency;
+	private long latency;
+	private long jitter;
+	private long bandwidth;
+	private double errorRate;
+	private long seed;
+	
+	private FakeGitHubServer server;
+	private File directory;
+	
+	/**
+	 * @return This test, or no tests unless the <code>loadtest</code> system
+	 * property is <code>true</code>.
+	 */
+	public static Test suite() {
+		if (!Boolean.getBoolean("loadtest")) {
+			return new TestSuite();
+		}
+		return new TestSuite(GitHubDeployLoadTest.class);
+	}
+	
+	@Override
+	protected void setUp() throws Exception {
+		this.deploys = Integer.getInteger("loadtest.deploys", 40);
+		this.parallel = Integer.getInteger("loadtest.parallel", 20);
+		this.artifacts = Integer.getInteger("loadtest.artifacts", 3);
+		this.artifactSize = Integer.getInteger("loadtest.artifactSize", 16 * 1024);
+		this.concurrency = Integer.getInteger("loadtest.concurrency", 2);
+		this.latency = Long.getLong("loadtest.latency", 5);
+		this.jitter = Long.getLong("loadtest.jitter", 10);
+		this.bandwidth = Long.getLong("loadtest.bandwidth", 0);
+		this.errorRate = Double.parseDouble(System.getProperty("loadtest.errorRate", "0.01"));
+		this.seed = Long.getLong("loadtest.seed", 1);
+		
+		this.server = new FakeGitHubServer();
+		this.server.setLatencyMillis(this.latency);
+		this.server.setLatencyJitterMillis(this.jitter);
+		this.server.setBytesPerSecond(this.bandwidth);
+		this.server.setErrorRate(this.errorRate);
+		this.server.setSeed(this.seed);
+		this.server.start();
+		
+		this.directory = File.createTempFile("github-deploy-load", "");
+		this.directory.delete();
+		this.directory.mkdirs();
+	}
+	
+	@Override
+	protected void tearDown() throws Exception {
+		this.server.stop();
+		for (File file : this.directory.listFiles()) {
+			file.delete();
+		}
+		this.directory.delete();
+	}
+	
+	/**
+	 * Run the configured number of deploys and report latency percentiles,
+	 * throughput and failure rate.
+	 */
+	public void test_concurrentDeploys() throws Exception {
+		File[] files = this.createFiles();
+		
+		ExecutorService executor = Executors.newFixedThreadPool(this.parallel);
+		final CountDownLatch ready = new CountDownLatch(1);
+		List<Future<Long>> results = new ArrayList<Future<Long>>();
+		for (int i = 0; i < this.deploys; i++) {
+			final GitHubDeployMojo mojo = this.server.newMojo("load/repo-" + i, files);
+			mojo.setConcurrency(this.concurrency);
+			results.add(executor.submit(new Callable<Long>() {
+				@Override
+				public Long call() throws Exception {
+					ready.await();
+					long start = System.nanoTime();
+					try {
+						mojo.execute();
+					} catch (MojoFailureException e) {
+						return -1L;
+					}
+					return System.nanoTime() - start;
+				}
+			}));
+		}
+		
+		long start = System.nanoTime();
+		ready.countDown();
+		long[] latencies = new long[this.deploys];
+		int succeeded = 0;
+		for (Future<Long> result : results) {
+			long latency = result.get();
+			if (latency >= 0) {
+				latencies[succeeded++] = latency;
+			}
+		}
+		long elapsed = System.nanoTime() - start;
+		executor.shutdown();
+		
+		int failed = this.deploys - succeeded;
+		latencies = Arrays.copyOf(latencies, succeeded);
+		Arrays.sort(latencies);
+		double seconds = elapsed / 1e9;
+		
+		Properties report = new Properties();
+		report.setProperty("config.deploys", Integer.toString(this.deploys));
+		report.setProperty("config.parallel", Integer.toString(this.parallel));
+		report.setProperty("config.artifacts", Integer.toString(this.artifacts));
+		report.setProperty("config.artifactSize", Integer.toString(this.artifactSize));
+		report.setProperty("config.concurrency", Integer.toString(this.concurrency));
+		report.setProperty("config.latency", Long.toString(this.latency));
+		report.setProperty("config.jitter", Long.toString(this.jitter));
+		report.setProperty("config.bandwidth", Long.toString(this.bandwidth));
+		report.setProperty("config.errorRate", Double.toString(this.errorRate));
+		report.setProperty("config.seed", Long.toString(this.seed));
+		report.setProperty("result.succeeded", Integer.toString(succeeded));
+		report.setProperty("result.failed", Integer.toString(failed));
+		report.setProperty("result.failureRate", String.format("%.4f", (double)failed / this.deploys));
+		report.setProperty("result.p50Millis", Long.toString(percentile(latencies, 50) / 1000000));
+		report.setProperty("result.p99Millis", Long.toString(percentile(latencies, 99) / 1000000));
+		report.setProperty("result.maxMillis", Long.toString(percentile(latencies, 100) / 1000000));
+		report.setProperty("result.deploysPerSecond", String.format("%.2f", succeeded / seconds));
+		report.setProperty("result.uploadsPerSecond", String.format("%.2f", this.server.getUploads() / seconds));
+		report.setProperty("result.megabytesPerSecond", String.format("%.2f", (double)this.server.getUploads() * this.artifactSize / seconds / (1024 * 1024)));
+		report.setProperty("result.serverErrors", Integer.toString(this.server.getErrors()));
+		report.setProperty("result.serverPeakInFlight", Integer.toString(this.server.getPeakInFlight()));
+		this.writeReport(report);
+		
+		Assert.assertTrue(succeeded > 0);
+		Assert.assertTrue(this.server.getUploads() >= succeeded * this.artifacts);
+		if (this.errorRate == 0) {
+			Assert.assertEquals(0, failed);
+		}
+	}
+	
+	/**
+	 * @return Value at the given percentile of sorted samples using the
+	 * nearest-rank method, or zero if there are none.
+	 */
+	static long percentile(long[] sorted, int percentile) {
+		if (sorted.length == 0) {
+			return 0;
+		}
+		int rank = (int)Math.ceil(percentile / 100.0 * sorted.length);
+		return sorted[Math.max(0, rank - 1)];
+	}
+	
+	private void writeReport(Properties report) throws IOException {
+		File target = new File("target");
+		target.mkdirs();
+		OutputStream out = new FileOutputStream(new File(target, "load-test.properties"));
+		try {
+			report.store(out, "GitHub deploy load test");
+		} finally {
+			out.close();
+		}
+	}
+	
+	private File[] createFiles() throws IOException {
+		Random random = new Random(this.seed);
+		File[] files = new File[this.artifacts];
+		byte[] content = new byte[this.artifactSize];
+		for (int i = 0; i < this.artifacts; i++) {
+			random.nextBytes(content);
+			files[i] = new File(this.directory, "artifact-" + i + ".jar");
+			FileOutputStream out = new FileOutputStream(files[i]);
+			try {
+				out.write(content);
+			} finally {
+				out.close();
+			}
+		}
+		return files;
+	}
+}
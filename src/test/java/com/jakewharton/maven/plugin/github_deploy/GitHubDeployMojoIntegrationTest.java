@@ -0,0 +1,657 @@
+package com.jakewharton.maven.plugin.github_deploy;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.tsccm.ThreadSafeClientConnManager;
+import org.apache.http.util.EntityUtils;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugin.logging.SystemStreamLog;
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+/**
+ * Tests which run complete {@link GitHubDeployMojo} executions against a
+ * {@link FakeGitHubServer}.
+ * 
+ * @author Jake Wharton <jakewharton@gmail.com>
+ */
+public class GitHubDeployMojoIntegrationTest extends TestCase {
+	private static final String SECRET = "0123456789abcdef";
+	
+	private FakeGitHubServer server;
+	private File directory;
+	
+	@Override
+	protected void setUp() throws Exception {
+		this.server = new FakeGitHubServer();
+		this.server.start();
+		this.directory = File.createTempFile("github-deploy", "");
+		this.directory.delete();
+		this.directory.mkdirs();
+	}
+	
+	@Override
+	protected void tearDown() throws Exception {
+		this.server.stop();
+		FileUtils.deleteDirectory(this.directory);
+	}
+	
+	/**
+	 * Check a deploy only replaces the existing download of its artifact.
+	 */
+	public void test_replaceExisting() throws Exception {
+		File file = this.createFile("project-1.0.jar", 128);
+		for (int i = 0; i < 100; i++) {
+			this.server.addDownload("owner/index", "other-" + i + ".jar");
+		}
+		this.server.addDownload("owner/index", file.getName());
+		GitHubDeployMojo mojo = this.server.newMojo("owner/index", file);
+		mojo.setReplaceExisting(true);
+		mojo.execute();
+		
+		Assert.assertEquals(1, this.server.getDeletes());
+		Assert.assertEquals(1, this.server.getUploads());
+		Assert.assertEquals(101, this.server.downloads("owner/index").size());
+	}
+	
+	/**
+	 * Check a downloads page of several megabytes is read in full by default
+	 * and fails the deploy when it exceeds a configured maximum size.
+	 */
+	public void test_largeListing() throws Exception {
+		File file = this.createFile("project-1.0.jar", 128);
+		for (int i = 0; i < 40000; i++) {
+			this.server.addDownload("owner/large", "other-" + i + ".jar");
+		}
+		GitHubDeployMojo mojo = this.server.newMojo("owner/large", file);
+		mojo.execute();
+		Assert.assertEquals(1, this.server.getUploads());
+		
+		mojo = this.server.newMojo("owner/large", file);
+		mojo.setReplaceExisting(true);
+		mojo.setMaxResponseSize(64 * 1024);
+		try {
+			mojo.execute();
+			Assert.fail();
+		} catch (MojoFailureException e) {
+			Assert.assertEquals(String.format(GitHubDeployMojo.ERROR_RESPONSE_TOO_LARGE, 64 * 1024), e.getCause().getMessage());
+		}
+		Assert.assertEquals(1, this.server.getUploads());
+	}
+	
+	/**
+	 * Check a deploy against a server which throttles concurrent requests
+	 * backs off and still completes.
+	 */
+	public void test_throttlingServer() throws Exception {
+		this.server.setThrottleAbove(3);
+		this.server.setLatencyMillis(20);
+		GitHubDeployMojo mojo = this.server.newMojo("owner/throttled", this.createFiles(24, 1024));
+		mojo.setConcurrency(16);
+		mojo.execute();
+		
+		Assert.assertEquals(24, this.server.getUploads());
+		Assert.assertTrue(this.server.getThrottled() > 0);
+		Assert.assertTrue(mojo.getLimiter().getDecreases() > 0);
+		Assert.assertTrue(mojo.getLimiter().getLimit() < 16);
+	}
+	
+	/**
+	 * Check a deploy against a bandwidth capped server raises the limit above
+	 * one without being throttled.
+	 */
+	public void test_bandwidthCappedServer() throws Exception {
+		this.server.setBytesPerSecond(4 * 1024 * 1024);
+		GitHubDeployMojo mojo = this.server.newMojo("owner/capped", this.createFiles(12, 64 * 1024));
+		mojo.setConcurrency(4);
+		mojo.execute();
+		
+		Assert.assertEquals(12, this.server.getUploads());
+		Assert.assertEquals(0, mojo.getLimiter().getThrottled());
+		Assert.assertTrue(mojo.getLimiter().getPeakInFlight() > 1);
+		Assert.assertTrue(this.server.getPeakInFlight() <= 4);
+	}
+	
+	/**
+	 * Check a corrupt artifact is neither uploaded nor replaces its existing
+	 * download, while intact artifacts uploaded concurrently still are.
+	 */
+	public void test_verificationGatesDeploy() throws Exception {
+		File jar = new File(this.directory, "project-1.0.jar");
+		File other = new File(this.directory, "project-1.0-sources.jar");
+		ArtifactVerifierTest.writeJar(jar, 20);
+		ArtifactVerifierTest.writeJar(other, 5);
+		ArtifactVerifierTest.truncate(jar);
+		
+		this.server.addDownload("owner/verify", jar.getName());
+		GitHubDeployMojo mojo = this.server.newMojo("owner/verify", jar, other);
+		mojo.setVerify(true);
+		mojo.setReplaceExisting(true);
+		try {
+			mojo.execute();
+			Assert.fail();
+		} catch (MojoFailureException e) {
+			//Expected
+		}
+		Assert.assertEquals(0, this.server.getDeletes());
+		Assert.assertTrue(this.server.downloads("owner/verify").containsKey(jar.getName()));
+		
+		this.server.downloads("owner/verify").clear();
+		mojo = this.server.newMojo("owner/verify", jar, other);
+		mojo.setVerify(true);
+		mojo.setConcurrency(2);
+		try {
+			mojo.execute();
+			Assert.fail();
+		} catch (MojoFailureException e) {
+			//Expected
+		}
+		Assert.assertEquals(1, this.server.getUploads());
+		Assert.assertTrue(this.server.downloads("owner/verify").containsKey(other.getName()));
+	}
+	
+	/**
+	 * Check a deploy with warm-up enabled reports it and succeeds.
+	 */
+	public void test_warmUp() throws Exception {
+		GitHubDeployMojo mojo = this.server.newMojo("owner/warm", this.createFile("project-1.0.jar", 1024));
+		mojo.setWarmUp(true);
+		mojo.execute();
+		
+		Assert.assertEquals(1, this.server.getUploads());
+		Assert.assertEquals(1, mojo.getWarmer().getHosts());
+		Assert.assertTrue(mojo.getWarmer().getHiddenMillis() <= mojo.getWarmer().getDurationMillis());
+	}
+	
+	/**
+	 * Check the same mojo can be executed more than once.
+	 */
+	public void test_executeTwice() throws Exception {
+		GitHubDeployMojo mojo = this.server.newMojo("owner/twice", this.createFiles(4, 1024));
+		mojo.setConcurrency(2);
+		mojo.setWarmUp(true);
+		mojo.setReplaceExisting(true);
+		mojo.execute();
+		mojo.execute();
+		
+		Assert.assertEquals(8, this.server.getUploads());
+		Assert.assertEquals(4, this.server.getDeletes());
+		Assert.assertEquals(4, this.server.downloads("owner/twice").size());
+	}
+	
+	/**
+	 * Check an HTTP client supplied to the mojo is not shut down by it.
+	 */
+	public void test_injectedHttpClient() throws Exception {
+		ThreadSafeClientConnManager connections = new ThreadSafeClientConnManager();
+		try {
+			HttpClient client = new DefaultHttpClient(connections);
+			GitHubDeployMojo mojo = this.server.newMojo("owner/injected", this.createFile("project-1.0.jar", 1024));
+			mojo.setHttpClient(client);
+			mojo.execute();
+			
+			Assert.assertEquals(1, this.server.getUploads());
+			HttpResponse response = client.execute(new HttpGet(this.server.getBaseUrl() + "/owner/injected/downloads"));
+			EntityUtils.consume(response.getEntity());
+			Assert.assertEquals(200, response.getStatusLine().getStatusCode());
+		} finally {
+			connections.shutdown();
+		}
+	}
+	
+	/**
+	 * Check an artifact identical to another is only uploaded when
+	 * deduplication is disabled.
+	 */
+	public void test_dedupe() throws Exception {
+		File jar = this.createFile("project-1.0.jar", 4096);
+		File copy = this.copyFile(jar, "project-1.0-shaded.jar");
+		File other = this.createFile("project-1.0-sources.jar", 4096);
+		
+		GitHubDeployMojo mojo = this.server.newMojo("owner/dedupe", jar, copy, other);
+		mojo.execute();
+		Assert.assertEquals(3, this.server.getUploads());
+		
+		this.server.downloads("owner/dedupe").clear();
+		mojo = this.server.newMojo("owner/dedupe", jar, copy, other);
+		mojo.setDedupe(true);
+		RecordingListener listener = new RecordingListener();
+		mojo.addListener(listener);
+		mojo.execute();
+		
+		Assert.assertEquals(5, this.server.getUploads());
+		Assert.assertEquals(2, this.server.downloads("owner/dedupe").size());
+		List<DeployEvent> skipped = listener.get(DeployEvent.DuplicateSkipped.class);
+		Assert.assertEquals(1, skipped.size());
+		DeployEvent.DuplicateSkipped event = (DeployEvent.DuplicateSkipped)skipped.get(0);
+		Assert.assertEquals(copy.getName(), event.getFileName());
+		Assert.assertEquals(jar.getName(), event.getOriginalFileName());
+		Assert.assertEquals(jar.length(), event.getBytes());
+	}
+	
+	/**
+	 * Check an existing download under the name of a skipped duplicate is
+	 * deleted when replacing and fails the deploy otherwise.
+	 */
+	public void test_dedupeExisting() throws Exception {
+		File jar = this.createFile("project-1.0.jar", 4096);
+		File copy = this.copyFile(jar, "project-1.0-shaded.jar");
+		this.server.addDownload("owner/dedupe", copy.getName());
+		
+		GitHubDeployMojo mojo = this.server.newMojo("owner/dedupe", jar, copy);
+		mojo.setDedupe(true);
+		RecordingListener listener = new RecordingListener();
+		mojo.addListener(listener);
+		try {
+			mojo.execute();
+			Assert.fail();
+		} catch (MojoFailureException e) {
+			Assert.assertEquals(String.format(GitHubDeployMojo.ERROR_DOWNLOAD_EXISTS, copy.getName()), e.getMessage());
+		}
+		Assert.assertEquals(0, this.server.getUploads());
+		Assert.assertEquals(Arrays.asList(copy.getName()), listener.getFileNames(DeployEvent.DeployFailed.class));
+		
+		mojo = this.server.newMojo("owner/dedupe", jar, copy);
+		mojo.setDedupe(true);
+		mojo.setReplaceExisting(true);
+		mojo.execute();
+		
+		Assert.assertEquals(1, this.server.getDeletes());
+		Assert.assertEquals(1, this.server.getUploads());
+		Assert.assertEquals(1, this.server.downloads("owner/dedupe").size());
+		Assert.assertTrue(this.server.downloads("owner/dedupe").containsKey(jar.getName()));
+	}
+	
+	/**
+	 * Check serial uploads follow the configured order and report the first
+	 * available artifact, concurrent uploads admitted one at a time upload the
+	 * primary artifact first, and unknown rules fail before anything is
+	 * uploaded.
+	 */
+	public void test_uploadOrder() throws Exception {
+		File jar = this.createFile("project-1.0.jar", 3000);
+		File javadoc = this.createFile("project-1.0-javadoc.jar", 9000);
+		File sources = this.createFile("project-1.0-sources.jar", 1000);
+		File tests = this.createFile("project-1.0-tests.jar", 2000);
+		
+		GitHubDeployMojo mojo = this.server.newMojo("owner/order", jar, javadoc, sources, tests);
+		RecordingListener listener = new RecordingListener();
+		mojo.addListener(listener);
+		mojo.execute();
+		Assert.assertEquals(Arrays.asList(jar.getName(), sources.getName(), tests.getName(), javadoc.getName()), listener.getFileNames(DeployEvent.UploadCompleted.class));
+		Assert.assertEquals(jar.getName(), mojo.getFirstAvailable());
+		
+		//Concurrent uploads are admitted in order
+		this.server.setLatencyMillis(20);
+		this.server.downloads("owner/order").clear();
+		mojo = this.server.newMojo("owner/order", jar, javadoc, sources, tests);
+		mojo.setConcurrency(4);
+		mojo.setLimiter(new AdaptiveLimiter(1));
+		listener = new RecordingListener();
+		mojo.addListener(listener);
+		mojo.execute();
+		Assert.assertEquals(jar.getName(), listener.getFileNames(DeployEvent.UploadCompleted.class).get(0));
+		Assert.assertEquals(jar.getName(), mojo.getFirstAvailable());
+		Assert.assertTrue(mojo.getFirstAvailableMillis() >= 0);
+		
+		this.server.downloads("owner/order").clear();
+		mojo = this.server.newMojo("owner/order", jar);
+		mojo.setUploadOrder(Arrays.asList("newest"));
+		try {
+			mojo.execute();
+			Assert.fail();
+		} catch (MojoFailureException e) {
+			//Expected
+		}
+		Assert.assertEquals(0, this.server.downloads("owner/order").size());
+	}
+	
+	/**
+	 * Check a failure in one repository does not stop the others, that each
+	 * repository's result is reported, and that the deploy then fails.
+	 */
+	public void test_repositoryFailure() throws Exception {
+		File jar = this.createFile("project-1.0.jar", 1024);
+		File sources = this.createFile("project-1.0-sources.jar", 512);
+		this.server.addDownload("owner/bad", jar.getName());
+		GitHubDeployMojo mojo = this.server.newMojo("owner/good", jar, sources);
+		mojo.setRepositories(Arrays.asList("owner/good", "owner/bad"));
+		RecordingLog log = new RecordingLog();
+		mojo.setLog(log);
+		RecordingListener listener = new RecordingListener();
+		mojo.addListener(listener);
+		try {
+			mojo.execute();
+			Assert.fail();
+		} catch (MojoFailureException e) {
+			Assert.assertEquals(String.format(GitHubDeployMojo.ERROR_REPOSITORIES_FAILED, 1, 2), e.getMessage());
+		}
+		
+		Assert.assertEquals(2, this.server.getUploads());
+		Assert.assertTrue(this.server.downloads("owner/good").containsKey(jar.getName()));
+		Assert.assertTrue(this.server.downloads("owner/good").containsKey(sources.getName()));
+		Assert.assertEquals(1, this.server.downloads("owner/bad").size());
+		Assert.assertTrue(log.getInfo().contains(String.format(GitHubDeployMojo.INFO_REPOSITORY_SUCCESS, "owner/good", 2)));
+		String exists = String.format(GitHubDeployMojo.ERROR_DOWNLOAD_EXISTS, jar.getName());
+		Assert.assertTrue(log.getErrors().contains(String.format(GitHubDeployMojo.ERROR_REPOSITORY_FAILED, "owner/bad", exists)));
+		List<DeployEvent> failed = listener.get(DeployEvent.DeployFailed.class);
+		Assert.assertEquals(1, failed.size());
+		Assert.assertEquals("owner/bad", failed.get(0).getRepository());
+		Assert.assertEquals(jar.getName(), failed.get(0).getFileName());
+		Assert.assertEquals(exists, ((DeployEvent.DeployFailed)failed.get(0)).getMessage());
+	}
+	
+	/**
+	 * Check a deploy to several repositories at the default concurrency still
+	 * sends requests for them at the same time.
+	 */
+	public void test_repositoriesConcurrent() throws Exception {
+		this.server.setLatencyMillis(20);
+		GitHubDeployMojo mojo = this.server.newMojo("owner/first", this.createFiles(4, 1024));
+		mojo.setRepositories(Arrays.asList("owner/first", "owner/second"));
+		mojo.execute();
+		
+		Assert.assertEquals(8, this.server.getUploads());
+		Assert.assertTrue(this.server.getPeakInFlight() > 1);
+	}
+	
+	/**
+	 * Check a second deploy is compared against the index written by the
+	 * first and updates it, and that a changed block size rebuilds it.
+	 */
+	public void test_delta() throws Exception {
+		File indexes = new File(this.directory, "indexes");
+		File jar = this.createFile("project-1.0.jar", 8 * 1024);
+		File index = new File(new File(indexes, "owner/delta"), jar.getName() + ".idx");
+		
+		RecordingLog log = new RecordingLog();
+		GitHubDeployMojo mojo = this.newDeltaMojo(jar, indexes, 1024, log);
+		mojo.execute();
+		Assert.assertTrue(log.getInfo().contains(GitHubDeployMojo.INFO_DELTA_NONE));
+		Assert.assertEquals(8, BlockIndex.read(index).getBlockCount());
+		
+		//Change a single byte in the fourth block
+		byte[] content = FileUtils.readFileToByteArray(jar);
+		content[3 * 1024 + 10] ^= 0xff;
+		FileUtils.writeByteArrayToFile(jar, content);
+		
+		log = new RecordingLog();
+		mojo = this.newDeltaMojo(jar, indexes, 1024, log);
+		mojo.execute();
+		Assert.assertTrue(log.getInfo().contains(String.format(GitHubDeployMojo.INFO_DELTA, 1024, 8 * 1024, 12)));
+		Assert.assertEquals(0, BlockIndex.read(index).diff(jar, 1024).getChanged());
+		
+		log = new RecordingLog();
+		mojo = this.newDeltaMojo(jar, indexes, 2048, log);
+		mojo.execute();
+		Assert.assertTrue(log.getInfo().contains(String.format(GitHubDeployMojo.INFO_DELTA_BLOCK_SIZE, 1024, 2048)));
+		Assert.assertEquals(2048, BlockIndex.read(index).getBlockSize());
+		Assert.assertEquals(3, this.server.getUploads());
+	}
+	
+	/**
+	 * Check a deploy sends selection, delete, reservation, progress, and
+	 * upload events with their byte counts.
+	 */
+	public void test_events() throws Exception {
+		File[] files = this.createFiles(2, 200 * 1024);
+		this.server.addDownload("owner/events", files[0].getName());
+		GitHubDeployMojo mojo = this.server.newMojo("owner/events", files);
+		mojo.setReplaceExisting(true);
+		RecordingListener listener = new RecordingListener();
+		mojo.addListener(listener);
+		mojo.execute();
+		
+		Assert.assertEquals(2, listener.get(DeployEvent.ArtifactSelected.class).size());
+		Assert.assertEquals(1, listener.get(DeployEvent.DeleteCompleted.class).size());
+		Assert.assertEquals(2, listener.get(DeployEvent.ReservationCompleted.class).size());
+		Assert.assertEquals(2, listener.get(DeployEvent.UploadCompleted.class).size());
+		Assert.assertEquals(0, listener.get(DeployEvent.DeployFailed.class).size());
+		Assert.assertTrue(listener.get(DeployEvent.UploadProgress.class).size() >= 2 * 4);
+		
+		long previousProgress = 0;
+		for (DeployEvent event : listener.get(DeployEvent.class)) {
+			if (event instanceof DeployEvent.UploadCompleted) {
+				Assert.assertEquals("owner/events", event.getRepository());
+				Assert.assertEquals(200 * 1024, ((DeployEvent.UploadCompleted)event).getBytes());
+			} else if (event instanceof DeployEvent.UploadProgress) {
+				DeployEvent.UploadProgress progress = (DeployEvent.UploadProgress)event;
+				Assert.assertEquals(200 * 1024, progress.getTotalBytes());
+				Assert.assertTrue(progress.getBytesWritten() > previousProgress);
+				previousProgress = (progress.getBytesWritten() == progress.getTotalBytes()) ? 0 : progress.getBytesWritten();
+			} else if (event instanceof DeployEvent.DeleteCompleted) {
+				Assert.assertEquals(files[0].getName(), event.getFileName());
+			}
+		}
+	}
+	
+	/**
+	 * Check a failed upload sends a failure event.
+	 */
+	public void test_failureEvent() throws Exception {
+		this.server.setErrorRate(1);
+		GitHubDeployMojo mojo = this.server.newMojo("owner/failed", this.createFiles(1, 1024));
+		RecordingListener listener = new RecordingListener();
+		mojo.addListener(listener);
+		try {
+			mojo.execute();
+			Assert.fail();
+		} catch (MojoFailureException e) {
+			//Expected
+		}
+		Assert.assertEquals(1, listener.get(DeployEvent.DeployFailed.class).size());
+		Assert.assertEquals(0, listener.get(DeployEvent.UploadCompleted.class).size());
+	}
+	
+	/**
+	 * Check listeners configured by class name are created and a failing
+	 * listener does not fail the deploy.
+	 */
+	public void test_configuredListeners() throws Exception {
+		CountingListener.count = 0;
+		GitHubDeployMojo mojo = this.server.newMojo("owner/configured", this.createFiles(2, 1024));
+		mojo.setListeners(Arrays.asList(CountingListener.class.getName(), ThrowingListener.class.getName()));
+		RecordingLog log = new RecordingLog();
+		mojo.setLog(log);
+		mojo.execute();
+		
+		Assert.assertEquals(2, this.server.getUploads());
+		Assert.assertTrue(CountingListener.count > 0);
+		Assert.assertTrue(log.getWarnings().contains(String.format(GitHubDeployMojo.WARN_LISTENER, ThrowingListener.class.getName())));
+		
+		mojo = this.server.newMojo("owner/configured", this.createFiles(1, 1024));
+		mojo.setListeners(Collections.singletonList("com.example.MissingListener"));
+		log = new RecordingLog();
+		mojo.setLog(log);
+		try {
+			mojo.execute();
+			Assert.fail();
+		} catch (MojoFailureException e) {
+			//Expected
+		}
+		Assert.assertTrue(log.getErrors().contains(String.format(GitHubDeployMojo.ERROR_LISTENER, "com.example.MissingListener")));
+	}
+	
+	/**
+	 * Check credentials do not appear in debug output.
+	 */
+	public void test_debugLogOmitsToken() throws Exception {
+		final StringBuilder output = new StringBuilder();
+		GitHubDeployMojo mojo = this.server.newMojo("owner/debug", this.createFiles(1, 1024));
+		mojo.setGithubToken(SECRET);
+		mojo.setLog(new SystemStreamLog() {
+			@Override
+			public boolean isDebugEnabled() {
+				return true;
+			}
+			@Override
+			public void debug(CharSequence content) {
+				synchronized (output) {
+					output.append(content).append('\n');
+				}
+			}
+			@Override
+			public void info(CharSequence content) {}
+		});
+		mojo.execute();
+		
+		Assert.assertTrue(output.indexOf("Uploaded") != -1);
+		Assert.assertEquals(-1, output.indexOf(SECRET));
+	}
+	
+	/**
+	 * Create a file of random contents determined by its name.
+	 */
+	private File createFile(String name, int size) throws IOException {
+		byte[] content = new byte[size];
+		new Random(name.hashCode()).nextBytes(content);
+		File file = new File(this.directory, name);
+		FileOutputStream out = new FileOutputStream(file);
+		try {
+			out.write(content);
+		} finally {
+			out.close();
+		}
+		return file;
+	}
+	
+	private GitHubDeployMojo newDeltaMojo(File jar, File indexes, int blockSize, RecordingLog log) {
+		GitHubDeployMojo mojo = this.server.newMojo("owner/delta", jar);
+		mojo.setDelta(true);
+		mojo.setDeltaIndexDirectory(indexes);
+		mojo.setDeltaBlockSize(blockSize);
+		mojo.setReplaceExisting(true);
+		mojo.setLog(log);
+		return mojo;
+	}
+	
+	private File[] createFiles(int count, int size) throws IOException {
+		File[] files = new File[count];
+		for (int i = 0; i < count; i++) {
+			files[i] = this.createFile("artifact-" + i + ".jar", size);
+		}
+		return files;
+	}
+	
+	private File copyFile(File source, String name) throws IOException {
+		File file = new File(this.directory, name);
+		FileInputStream in = new FileInputStream(source);
+		try {
+			FileOutputStream out = new FileOutputStream(file);
+			try {
+				IOUtils.copy(in, out);
+			} finally {
+				out.close();
+			}
+		} finally {
+			in.close();
+		}
+		return file;
+	}
+	
+	/**
+	 * Listener which keeps every event in the order it was delivered.
+	 */
+	static class RecordingListener implements DeployListener {
+		private final List<DeployEvent> events = new ArrayList<DeployEvent>();
+		
+		@Override
+		public synchronized void onEvent(DeployEvent event) {
+			this.events.add(event);
+		}
+		
+		synchronized List<DeployEvent> get(Class<? extends DeployEvent> type) {
+			List<DeployEvent> events = new ArrayList<DeployEvent>();
+			for (DeployEvent event : this.events) {
+				if (type.isInstance(event)) {
+					events.add(event);
+				}
+			}
+			return events;
+		}
+		
+		List<String> getFileNames(Class<? extends DeployEvent> type) {
+			List<String> fileNames = new ArrayList<String>();
+			for (DeployEvent event : this.get(type)) {
+				fileNames.add(event.getFileName());
+			}
+			return fileNames;
+		}
+	}
+	
+	/**
+	 * Log which keeps informational, warning and error messages and discards
+	 * the rest.
+	 */
+	static class RecordingLog extends SystemStreamLog {
+		private final List<String> info = new ArrayList<String>();
+		private final List<String> warnings = new ArrayList<String>();
+		private final List<String> errors = new ArrayList<String>();
+		
+		@Override
+		public boolean isDebugEnabled() {
+			return false;
+		}
+		@Override
+		public void debug(CharSequence content) {}
+		@Override
+		public synchronized void info(CharSequence content) {
+			this.info.add(content.toString());
+		}
+		@Override
+		public synchronized void warn(CharSequence content) {
+			this.warnings.add(content.toString());
+		}
+		@Override
+		public void warn(CharSequence content, Throwable error) {
+			this.warn(content);
+		}
+		@Override
+		public synchronized void error(CharSequence content) {
+			this.errors.add(content.toString());
+		}
+		@Override
+		public void error(CharSequence content, Throwable error) {
+			this.error(content);
+		}
+		
+		synchronized List<String> getInfo() {
+			return new ArrayList<String>(this.info);
+		}
+		synchronized List<String> getWarnings() {
+			return new ArrayList<String>(this.warnings);
+		}
+		synchronized List<String> getErrors() {
+			return new ArrayList<String>(this.errors);
+		}
+	}
+	
+	public static class CountingListener implements DeployListener {
+		static volatile int count;
+		
+		@Override
+		public void onEvent(DeployEvent event) {
+			count += 1;
+		}
+	}
+	
+	public static class ThrowingListener implements DeployListener {
+		@Override
+		public void onEvent(DeployEvent event) {
+			throw new IllegalStateException();
+		}
+	}
+}
@@ -0,0 +1,52 @@
+package com.jakewharton.maven.plugin.github_deploy;
+
+import java.io.File;
+import java.util.ArrayList;
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.settings.Settings;
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+/**
+ * Tests for the {@link GitHubDeployMojo} startup paths which should not
+ * perform any network or process work.
+ * 
+ * @author Jake Wharton <jakewharton@gmail.com>
+ */
+public class GitHubDeployMojoStartupTest extends TestCase {
+	/**
+	 * Check an execution which has been told to skip does no setup.
+	 */
+	public void test_skipPath() throws MojoFailureException {
+		GitHubDeployMojo mojo = newMojo();
+		mojo.setSkip(true);
+		
+		mojo.execute();
+		Assert.assertNull(mojo.getLimiter());
+		Assert.assertNull(mojo.getTargets());
+	}
+	
+	/**
+	 * Check an execution which has no deployable artifacts does no setup.
+	 * Maven is offline so any attempt at initialization would fail.
+	 */
+	public void test_noOpPath() throws MojoFailureException {
+		GitHubDeployMojo mojo = newMojo();
+		mojo.setArtifact(FakeGitHubServer.newArtifact(new File("does-not-exist.jar"), null));
+		
+		mojo.execute();
+		Assert.assertNull(mojo.getLimiter());
+		Assert.assertNull(mojo.getTargets());
+	}
+	
+	static GitHubDeployMojo newMojo() {
+		GitHubDeployMojo mojo = new GitHubDeployMojo();
+		mojo.setLog(FakeGitHubServer.quietLog());
+		Settings settings = new Settings();
+		settings.setOffline(true);
+		mojo.setSettings(settings);
+		mojo.setAttachedArtifacts(new ArrayList<Artifact>());
+		return mojo;
+	}
+}
@@ -1,5 +1,10 @@
 package com.jakewharton.maven.plugin.github_deploy;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import org.apache.http.entity.InputStreamEntity;
+import org.apache.http.entity.StringEntity;
+import org.apache.maven.settings.Settings;
 import junit.framework.Assert;
 import junit.framework.TestCase;
 
@@ -23,6 +28,7 @@ public class GitHubDeployMojoTest extends TestCase {
 	public void test_infoStrings() {
 		//Check info strings
 		Assert.assertNotNull(GitHubDeployMojo.INFO_SKIP);
+		Assert.assertNotNull(GitHubDeployMojo.INFO_NOTHING);
 		Assert.assertNotNull(GitHubDeployMojo.INFO_ARTIFACTS);
 		Assert.assertNotNull(GitHubDeployMojo.INFO_ARTIFACT_DETAIL);
 		Assert.assertNotNull(GitHubDeployMojo.INFO_ARTIFACT_IGNORE);
@@ -32,6 +38,24 @@ public class GitHubDeployMojoTest extends TestCase {
 		Assert.assertNotNull(GitHubDeployMojo.INFO_DEPLOY_SEND);
 		Assert.assertNotNull(GitHubDeployMojo.INFO_DEPLOY_UPLOAD);
 		Assert.assertNotNull(GitHubDeployMojo.INFO_SUCCESS);
+		Assert.assertNotNull(GitHubDeployMojo.INFO_REPOSITORIES);
+		Assert.assertNotNull(GitHubDeployMojo.INFO_REPOSITORY_SUCCESS);
+		Assert.assertNotNull(GitHubDeployMojo.INFO_CONCURRENCY);
+		Assert.assertNotNull(GitHubDeployMojo.INFO_DELTA);
+		Assert.assertNotNull(GitHubDeployMojo.INFO_DELTA_NONE);
+		Assert.assertNotNull(GitHubDeployMojo.INFO_DELTA_BLOCK_SIZE);
+		Assert.assertNotNull(GitHubDeployMojo.INFO_WARM_UP);
+		Assert.assertNotNull(GitHubDeployMojo.INFO_DUPLICATE);
+		Assert.assertNotNull(GitHubDeployMojo.INFO_FIRST_AVAILABLE);
+	}
+	
+	/**
+	 * Check to make sure all of the warning strings are available.
+	 */
+	public void test_warnStrings() {
+		//Check warning strings
+		Assert.assertNotNull(GitHubDeployMojo.WARN_DELTA_INDEX);
+		Assert.assertNotNull(GitHubDeployMojo.WARN_LISTENER);
 	}
 	
 	/**
@@ -53,5 +77,61 @@ public class GitHubDeployMojoTest extends TestCase {
 		Assert.assertNotNull(GitHubDeployMojo.ERROR_NO_CREDENTIALS);
 		Assert.assertNotNull(GitHubDeployMojo.ERROR_AUTH_TOKEN);
 		Assert.assertNotNull(GitHubDeployMojo.ERROR_TYPES_AND_IGNORES);
+		Assert.assertNotNull(GitHubDeployMojo.ERROR_REPOSITORY_INVALID);
+		Assert.assertNotNull(GitHubDeployMojo.ERROR_REPOSITORY_FAILED);
+		Assert.assertNotNull(GitHubDeployMojo.ERROR_REPOSITORIES_FAILED);
+		Assert.assertNotNull(GitHubDeployMojo.ERROR_INTERRUPTED);
+		Assert.assertNotNull(GitHubDeployMojo.ERROR_RESPONSE_TOO_LARGE);
+		Assert.assertNotNull(GitHubDeployMojo.ERROR_LISTENER);
+		Assert.assertNotNull(GitHubDeployMojo.ERROR_VERIFY);
+		Assert.assertNotNull(GitHubDeployMojo.ERROR_VERIFY_SIZE);
+		Assert.assertNotNull(GitHubDeployMojo.ERROR_VERIFY_ARCHIVE);
+		Assert.assertNotNull(GitHubDeployMojo.ERROR_VERIFY_SIGNATURE);
+		Assert.assertNotNull(GitHubDeployMojo.ERROR_UPLOAD_ORDER);
+	}
+	
+	/**
+	 * Check git credentials are read once for every mojo of a session.
+	 */
+	public void test_gitCredentialsPerSession() {
+		Settings settings = new Settings();
+		GitHubDeployMojo first = new GitHubDeployMojo();
+		first.setSettings(settings);
+		GitHubDeployMojo second = new GitHubDeployMojo();
+		second.setSettings(settings);
+		GitHubDeployMojo other = new GitHubDeployMojo();
+		other.setSettings(new Settings());
+		
+		String[] credentials = first.loadGitCredentials();
+		Assert.assertSame(credentials, second.loadGitCredentials());
+		Assert.assertNotSame(credentials, other.loadGitCredentials());
+	}
+	
+	/**
+	 * Check response bodies are limited by their size in bytes and decoded
+	 * with their declared character set.
+	 */
+	public void test_readLimited() throws IOException {
+		//Five bytes in UTF-8 and four in ISO-8859-1
+		String content = "\u00fcber";
+		Assert.assertEquals(content, GitHubDeployMojo.readLimited(new StringEntity(content, "UTF-8"), 5));
+		Assert.assertEquals(content, GitHubDeployMojo.readLimited(new StringEntity(content, "ISO-8859-1"), 4));
+		try {
+			GitHubDeployMojo.readLimited(new StringEntity(content, "UTF-8"), 4);
+			Assert.fail();
+		} catch (IOException e) {
+			Assert.assertEquals(String.format(GitHubDeployMojo.ERROR_RESPONSE_TOO_LARGE, 4), e.getMessage());
+		}
+		
+		//Bodies without a declared length or character set
+		InputStreamEntity entity = new InputStreamEntity(new ByteArrayInputStream(content.getBytes("UTF-8")), -1);
+		Assert.assertEquals(content, GitHubDeployMojo.readLimited(entity, 5));
+		entity = new InputStreamEntity(new ByteArrayInputStream(content.getBytes("UTF-8")), -1);
+		try {
+			GitHubDeployMojo.readLimited(entity, 4);
+			Assert.fail();
+		} catch (IOException e) {
+			//Expected
+		}
 	}
 }
@@ -0,0 +1,90 @@
+package com.jakewharton.maven.plugin.github_deploy;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Properties;
+import org.apache.maven.plugin.MojoFailureException;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * Startup time benchmark for the {@link GitHubDeployMojo} skip and no-op
+ * paths, which should not perform any network or process work.
+ * <p>
+ * The benchmark only runs when <code>benchmark</code> is set, for example:
+ * <pre>
+ * mvn test -Dtest=GitHubDeployStartupBenchmarkTest -Dbenchmark=true -Dbenchmark.iterations=20000
+ * </pre>
+ * The configuration and average execution times are written to
+ * <code>target/startup-benchmark.properties</code> for comparison between
+ * releases.
+ * 
+ * @author Jake Wharton <jakewharton@gmail.com>
+ */
+public class GitHubDeployStartupBenchmarkTest extends TestCase {
+	private int iterations;
+	private int warmUp;
+	
+	/**
+	 * @return This test, or no tests unless the <code>benchmark</code> system
+	 * property is <code>true</code>.
+	 */
+	public static Test suite() {
+		if (!Boolean.getBoolean("benchmark")) {
+			return new TestSuite();
+		}
+		return new TestSuite(GitHubDeployStartupBenchmarkTest.class);
+	}
+	
+	@Override
+	protected void setUp() throws Exception {
+		this.iterations = Integer.getInteger("benchmark.iterations", 2000);
+		this.warmUp = Integer.getInteger("benchmark.warmUp", 200);
+	}
+	
+	/**
+	 * Measure executions which have been told to skip and executions which
+	 * have no deployable artifacts.
+	 */
+	public void test_startup() throws Exception {
+		GitHubDeployMojo skip = GitHubDeployMojoStartupTest.newMojo();
+		skip.setSkip(true);
+		GitHubDeployMojo noOp = GitHubDeployMojoStartupTest.newMojo();
+		noOp.setArtifact(FakeGitHubServer.newArtifact(new File("does-not-exist.jar"), null));
+		
+		Properties report = new Properties();
+		report.setProperty("config.iterations", Integer.toString(this.iterations));
+		report.setProperty("config.warmUp", Integer.toString(this.warmUp));
+		report.setProperty("result.skipMicros", Long.toString(this.benchmark(skip)));
+		report.setProperty("result.noOpMicros", Long.toString(this.benchmark(noOp)));
+		this.writeReport(report);
+	}
+	
+	/**
+	 * @return Average execution time in microseconds.
+	 */
+	private long benchmark(GitHubDeployMojo mojo) throws MojoFailureException {
+		for (int i = 0; i < this.warmUp; i++) {
+			mojo.execute();
+		}
+		long start = System.nanoTime();
+		for (int i = 0; i < this.iterations; i++) {
+			mojo.execute();
+		}
+		return (System.nanoTime() - start) / this.iterations / 1000;
+	}
+	
+	private void writeReport(Properties report) throws IOException {
+		File target = new File("target");
+		target.mkdirs();
+		OutputStream out = new FileOutputStream(new File(target, "startup-benchmark.properties"));
+		try {
+			report.store(out, "GitHub deploy startup benchmark");
+		} finally {
+			out.close();
+		}
+	}
+}
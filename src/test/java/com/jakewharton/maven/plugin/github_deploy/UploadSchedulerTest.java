@@ -0,0 +1,95 @@
+package com.jakewharton.maven.plugin.github_deploy;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.apache.maven.artifact.Artifact;
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+/**
+ * Tests for {@link UploadScheduler}.
+ * 
+ * @author Jake Wharton <jakewharton@gmail.com>
+ */
+public class UploadSchedulerTest extends TestCase {
+	private File directory;
+	private File jar;
+	private File javadoc;
+	private File sources;
+	private File tests;
+	
+	@Override
+	protected void setUp() throws Exception {
+		this.directory = File.createTempFile("github-deploy", "");
+		this.directory.delete();
+		this.directory.mkdirs();
+		this.jar = write(new File(this.directory, "project-1.0.jar"), 3000);
+		this.javadoc = write(new File(this.directory, "project-1.0-javadoc.jar"), 9000);
+		this.sources = write(new File(this.directory, "project-1.0-sources.jar"), 1000);
+		this.tests = write(new File(this.directory, "project-1.0-tests.jar"), 2000);
+	}
+	
+	@Override
+	protected void tearDown() throws Exception {
+		for (File file : this.directory.listFiles()) {
+			file.delete();
+		}
+		this.directory.delete();
+	}
+	
+	/**
+	 * Check the default rules put the primary artifact first and the rest
+	 * smallest first.
+	 */
+	public void test_defaultOrder() {
+		Artifact primary = FakeGitHubServer.newArtifact(this.jar, null);
+		Artifact javadoc = FakeGitHubServer.newArtifact(this.javadoc, "javadoc");
+		Artifact sources = FakeGitHubServer.newArtifact(this.sources, "sources");
+		Artifact tests = FakeGitHubServer.newArtifact(this.tests, "tests");
+		
+		UploadScheduler scheduler = new UploadScheduler(UploadScheduler.DEFAULT_RULES, primary);
+		Assert.assertEquals(Arrays.asList(primary, sources, tests, javadoc), scheduler.schedule(Arrays.asList(javadoc, tests, primary, sources)));
+	}
+	
+	/**
+	 * Check later rules only break ties left by earlier rules and remaining
+	 * ties are ordered by file name.
+	 */
+	public void test_rules() {
+		Artifact primary = FakeGitHubServer.newArtifact(this.jar, null);
+		Artifact javadoc = FakeGitHubServer.newArtifact(this.javadoc, "javadoc");
+		Artifact sources = FakeGitHubServer.newArtifact(this.sources, "sources");
+		Artifact tests = FakeGitHubServer.newArtifact(this.tests, "tests");
+		List<Artifact> artifacts = Arrays.asList(tests, sources, primary, javadoc);
+		
+		UploadScheduler scheduler = new UploadScheduler(Arrays.asList("classifier:javadoc", "largest"), primary);
+		Assert.assertEquals(Arrays.asList(javadoc, primary, tests, sources), scheduler.schedule(artifacts));
+		
+		scheduler = new UploadScheduler(Arrays.asList(" type:jar "), primary);
+		Assert.assertEquals(Arrays.asList(javadoc, sources, tests, primary), scheduler.schedule(artifacts));
+		
+		scheduler = new UploadScheduler(Collections.<String>emptyList(), primary);
+		Assert.assertEquals(Arrays.asList(javadoc, sources, tests, primary), scheduler.schedule(artifacts));
+		
+		try {
+			new UploadScheduler(Arrays.asList("primary", "classifier:"), primary);
+			Assert.fail();
+		} catch (IllegalArgumentException e) {
+			Assert.assertEquals("classifier:", e.getMessage());
+		}
+	}
+	
+	private static File write(File file, int length) throws IOException {
+		FileOutputStream out = new FileOutputStream(file);
+		try {
+			out.write(new byte[length]);
+		} finally {
+			out.close();
+		}
+		return file;
+	}
+}